@@ -1,5 +1,6 @@
 package alexisTrejo.expenses.tracking.api.Config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +22,38 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * BCrypt hashing and verification only, so a login storm queues here instead of holding
+     * every request thread. A full queue rejects the task and the caller answers 503.
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${expenses.password-hashing.threads:0}") int threads,
+                                                          @Value("${expenses.password-hashing.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PasswordHashing-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Writes live update frames, one subscriber at a time per thread, so a client that reads
+     * slowly only holds up its own stream instead of the push job.
+     */
+    @Bean(name = "liveUpdateExecutor")
+    public ThreadPoolTaskExecutor liveUpdateExecutor(@Value("${expenses.live.send-threads:4}") int threads,
+                                                     @Value("${expenses.live.max-subscribers:500}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // Every subscriber has at most one write task queued or running
+        executor.setQueueCapacity(maxSubscribers);
+        executor.setThreadNamePrefix("LiveUpdate-");
+        executor.initialize();
+        return executor;
+    }
+}
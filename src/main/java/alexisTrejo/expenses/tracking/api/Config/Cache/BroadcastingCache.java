@@ -0,0 +1,106 @@
+package alexisTrejo.expenses.tracking.api.Config.Cache;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.CacheBusDomainService;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A local cache whose evictions are also published on the cache bus. Only String keys travel;
+ * evicting any other key clears the cache on the other nodes.
+ */
+public class BroadcastingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheBusDomainService cacheBusDomainService;
+
+    public BroadcastingCache(Cache delegate, CacheBusDomainService cacheBusDomainService) {
+        this.delegate = delegate;
+        this.cacheBusDomainService = cacheBusDomainService;
+    }
+
+    public Cache getLocalCache() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        publishEviction(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        // Other nodes may hold the entry even when this one did not
+        publishEviction(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        cacheBusDomainService.publish(CacheBusEvent.clear(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        cacheBusDomainService.publish(CacheBusEvent.clear(getName()));
+        return invalidated;
+    }
+
+    private void publishEviction(Object key) {
+        cacheBusDomainService.publish(key instanceof String stringKey
+                ? CacheBusEvent.evict(getName(), stringKey)
+                : CacheBusEvent.clear(getName()));
+    }
+}
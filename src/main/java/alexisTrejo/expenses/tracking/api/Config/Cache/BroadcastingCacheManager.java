@@ -0,0 +1,53 @@
+package alexisTrejo.expenses.tracking.api.Config.Cache;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.CacheBusDomainService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out {@link BroadcastingCache}s over the local cache manager, so every @CacheEvict also
+ * reaches the other nodes. Evictions received from them are applied to the local caches only.
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheBusDomainService cacheBusDomainService;
+    private final Map<String, BroadcastingCache> caches = new ConcurrentHashMap<>();
+
+    public BroadcastingCacheManager(CacheManager localCacheManager, CacheBusDomainService cacheBusDomainService) {
+        this.localCacheManager = localCacheManager;
+        this.cacheBusDomainService = cacheBusDomainService;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new BroadcastingCache(localCache, cacheBusDomainService));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    public void evictLocally(String cacheName, String key) {
+        Cache localCache = localCacheManager.getCache(cacheName);
+        if (localCache != null) {
+            localCache.evict(key);
+        }
+    }
+
+    public void clearLocally(String cacheName) {
+        Cache localCache = localCacheManager.getCache(cacheName);
+        if (localCache != null) {
+            localCache.clear();
+        }
+    }
+}
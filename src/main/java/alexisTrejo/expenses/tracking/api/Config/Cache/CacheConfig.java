@@ -1,35 +1,86 @@
 package alexisTrejo.expenses.tracking.api.Config.Cache;
 
+import alexisTrejo.expenses.tracking.api.Service.DomainService.CacheBusDomainService;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-import java.util.concurrent.TimeUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Every cache the application uses, each built from its own Caffeine spec
+ * (expenses.caches.specs.&lt;name&gt;, falling back to expenses.caches.default-spec) and always
+ * recording statistics. A maximumWeight is measured in rows by {@link CacheEntryWeigher}.
+ * Evictions are shared with the other nodes through {@link BroadcastingCacheManager}.
+ */
+@Slf4j
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    public static final String ADMIN_SETTINGS_CACHE = "adminSettingsCache";
+    public static final String EMAIL_CHECK_CACHE = "emailCheckCache";
+    public static final String EXPENSE_SUMMARY_CACHE = "expenseSummaryCache";
+    public static final String EXPENSE_LISTING_CACHE = "expensesByStatusCache";
+    public static final String USER_CREDENTIALS_CACHE = "userCredentialsCache";
+
+    public static final List<String> CACHE_NAMES = List.of(
+            ADMIN_SETTINGS_CACHE,
+            EMAIL_CHECK_CACHE,
+            EXPENSE_SUMMARY_CACHE,
+            EXPENSE_LISTING_CACHE,
+            USER_CREDENTIALS_CACHE
+    );
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "adminDashboardCache",
-                "adminSettingsCache",
-                "emailCheckCache",
-                "userCredentialsCache"
-        );
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(100)
-                .expireAfterAccess(1, TimeUnit.HOURS)
-        );
+    public BroadcastingCacheManager cacheManager(Environment environment,
+                                                 CacheBusDomainService cacheBusDomainService,
+                                                 @Value("${expenses.caches.default-spec:maximumSize=100,expireAfterAccess=1h}") String defaultSpec) {
+        Map<String, String> specs = Binder.get(environment)
+                .bind("expenses.caches.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
 
+        Set<String> unknownCaches = new HashSet<>(specs.keySet());
+        CACHE_NAMES.forEach(unknownCaches::remove);
+        if (!unknownCaches.isEmpty()) {
+            log.warn("Cache specs configured for unknown caches {}", unknownCaches);
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setAllowNullValues(false);
         cacheManager.setAsyncCacheMode(true);
+        // Declaring the names first makes the manager static, so a misspelled cache name fails instead of getting defaults
+        cacheManager.setCacheNames(CACHE_NAMES);
+
+        for (String cacheName : CACHE_NAMES) {
+            String spec = specs.getOrDefault(cacheName, defaultSpec);
+            cacheManager.registerCustomCache(cacheName, builder(cacheName, spec).buildAsync());
+        }
+
+        return new BroadcastingCacheManager(cacheManager, cacheBusDomainService);
+    }
+
+    private static Caffeine<Object, Object> builder(String cacheName, String spec) {
+        if (spec.contains("refreshAfterWrite")) {
+            // @Cacheable caches have no loader to refresh with
+            throw new IllegalStateException("Cache " + cacheName + " cannot use refreshAfterWrite, use expireAfterWrite instead");
+        }
 
-        return cacheManager;
+        Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(new CacheEntryWeigher());
+        }
+        return builder;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package alexisTrejo.expenses.tracking.api.Config.Cache;
+
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+
+/**
+ * Weighs cached values in rows, so a maximumWeight bounds how many listing rows a cache holds
+ * regardless of the page sizes clients ask for. Anything that is not a listing weighs 1.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        int rows = 1;
+        if (value instanceof Page<?> page) {
+            rows = page.getNumberOfElements();
+        } else if (value instanceof CursorPage<?> cursorPage) {
+            rows = cursorPage.getContent().size();
+        } else if (value instanceof Collection<?> collection) {
+            rows = collection.size();
+        }
+        return Math.max(1, rows);
+    }
+}
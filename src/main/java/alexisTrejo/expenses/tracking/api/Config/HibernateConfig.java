@@ -0,0 +1,16 @@
+package alexisTrejo.expenses.tracking.api.Config;
+
+import alexisTrejo.expenses.tracking.api.Utils.Explain.GeneratedSqlCapture;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(GeneratedSqlCapture generatedSqlCapture) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, generatedSqlCapture);
+    }
+}
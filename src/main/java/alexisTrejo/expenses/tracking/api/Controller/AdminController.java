@@ -1,6 +1,15 @@
 package alexisTrejo.expenses.tracking.api.Controller;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.AmountHistogramBucketDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.TopSpenderDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.PasswordHashingStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.CacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.ExpenseListingCacheStatsDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.AdminDashboardDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ArchivedExpenseDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.ExpensePartitionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionMaintenanceDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionPruningCheckDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Settings.SettingsDTO;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.ReimbursementService;
@@ -10,12 +19,18 @@ import alexisTrejo.expenses.tracking.api.Utils.Result;
 import alexisTrejo.expenses.tracking.api.Utils.Validations;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/v1/api/admin")
 public class AdminController {
@@ -64,5 +79,145 @@ public class AdminController {
         return ResponseWrapper.ok(settingsDTO, "Current Settings Successfully Fetched");
     }
 
-}
+    @PostMapping("/expense-rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<Integer>> rebuildExpenseRollups(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("endDate must not be before startDate"));
+        }
+
+        int rebuiltRows = adminService.rebuildExpenseRollups(startDate, endDate);
+        return ResponseEntity.ok(ResponseWrapper.ok(rebuiltRows, "Expense Rollups Successfully Rebuilt From " + startDate + " to " + endDate));
+    }
+
+    @GetMapping("/expense-partitions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<List<ExpensePartitionDTO>>> getExpensePartitions() {
+        List<ExpensePartitionDTO> partitions = adminService.getExpensePartitions();
+        return ResponseEntity.ok(ResponseWrapper.ok(partitions, "Expense Partitions Successfully Fetched"));
+    }
+
+    @PostMapping("/expense-partitions/maintain")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<PartitionMaintenanceDTO>> maintainExpensePartitions() {
+        PartitionMaintenanceDTO maintenance = adminService.maintainExpensePartitions();
+        return ResponseEntity.ok(ResponseWrapper.ok(maintenance, "Expense Partitions Successfully Maintained"));
+    }
+
+    // Locks expenses for reads and writes until the copy commits, meant for a maintenance window
+    @PostMapping("/expense-partitions/convert")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<Long>> convertExpensesToPartitions() {
+        Result<Long> conversionResult = adminService.convertExpensesToPartitions();
+        if (!conversionResult.isSuccess()) {
+            return ResponseEntity.status(conversionResult.getStatus()).body(ResponseWrapper.error(conversionResult.getErrorMessage(), conversionResult.getStatus().value()));
+        }
+
+        return ResponseEntity.ok(ResponseWrapper.ok(conversionResult.getData(), "Expenses Successfully Converted To Monthly Partitions"));
+    }
+
+    @GetMapping("/expense-partitions/pruning-check")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<List<PartitionPruningCheckDTO>>> checkExpensePartitionPruning() {
+        List<PartitionPruningCheckDTO> checks = adminService.checkExpensePartitionPruning();
+        return ResponseEntity.ok(ResponseWrapper.ok(checks, "Expense Partition Pruning Successfully Checked"));
+    }
+
+    @GetMapping("/archived-expenses")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<Page<ArchivedExpenseDTO>>> getArchivedExpenses(@RequestParam(name = "user_id", required = false) Long userId,
+                                                                                       @RequestParam(defaultValue = "0") int page,
+                                                                                       @RequestParam(defaultValue = "10") int size) {
+        Page<ArchivedExpenseDTO> archivedExpenses = adminService.getArchivedExpenses(userId, PageRequest.of(page, size));
+        return ResponseEntity.ok(ResponseWrapper.ok(archivedExpenses, "Archived Expenses Successfully Fetched"));
+    }
+
+    @GetMapping("/archived-expenses/{expenseId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<ArchivedExpenseDTO>> getArchivedExpenseById(@PathVariable Long expenseId) {
+        Result<ArchivedExpenseDTO> archivedResult = adminService.getArchivedExpenseById(expenseId);
+        if (!archivedResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ResponseWrapper.notFound(archivedResult.getErrorMessage()));
+        }
+
+        return ResponseEntity.ok(ResponseWrapper.ok(archivedResult.getData(), "Archived Expense Successfully Fetched"));
+    }
+
+    @PostMapping("/archived-expenses/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<Long>> archiveColdExpenses() {
+        long archivedRows = adminService.archiveColdExpenses();
+        return ResponseEntity.ok(ResponseWrapper.ok(archivedRows, "Cold Expenses Successfully Archived"));
+    }
 
+    @GetMapping("/analytics/amount-histogram")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<List<AmountHistogramBucketDTO>>> getExpenseAmountHistogram(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                                                                     @RequestParam(defaultValue = "50") double bucketWidth,
+                                                                                                     @RequestParam(defaultValue = "20") int buckets) {
+        if (endDate.isBefore(startDate) || bucketWidth <= 0 || buckets < 1 || buckets > 1000) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Range: endDate must not be before startDate, bucketWidth must be positive and buckets between 1 and 1000"));
+        }
+
+        Result<List<AmountHistogramBucketDTO>> histogramResult = adminService.getExpenseAmountHistogram(startDate, endDate, bucketWidth, buckets);
+        if (!histogramResult.isSuccess()) {
+            return ResponseEntity.status(histogramResult.getStatus()).body(ResponseWrapper.error(histogramResult.getErrorMessage(), histogramResult.getStatus().value()));
+        }
+
+        return ResponseEntity.ok(ResponseWrapper.ok(histogramResult.getData(), "Expense Amount Histogram Successfully Fetched"));
+    }
+
+    @GetMapping("/analytics/top-spenders")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<List<TopSpenderDTO>>> getTopSpenders(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                                               @RequestParam(defaultValue = "10") int limit) {
+        if (endDate.isBefore(startDate) || limit < 1 || limit > 100) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Range: endDate must not be before startDate and limit must be between 1 and 100"));
+        }
+
+        Result<List<TopSpenderDTO>> topSpendersResult = adminService.getTopSpenders(startDate, endDate, limit);
+        if (!topSpendersResult.isSuccess()) {
+            return ResponseEntity.status(topSpendersResult.getStatus()).body(ResponseWrapper.error(topSpendersResult.getErrorMessage(), topSpendersResult.getStatus().value()));
+        }
+
+        return ResponseEntity.ok(ResponseWrapper.ok(topSpendersResult.getData(), "Top Spenders Successfully Fetched"));
+    }
+
+    @PostMapping("/analytics/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<Integer>> reloadExpenseAnalytics() {
+        Result<Integer> reloadResult = adminService.reloadExpenseAnalytics();
+        if (!reloadResult.isSuccess()) {
+            return ResponseEntity.status(reloadResult.getStatus()).body(ResponseWrapper.error(reloadResult.getErrorMessage(), reloadResult.getStatus().value()));
+        }
+
+        return ResponseEntity.ok(ResponseWrapper.ok(reloadResult.getData(), "Expense Analytics Store Successfully Reloaded"));
+    }
+
+    @GetMapping("/caches")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<List<CacheStatsDTO>>> getCacheStats() {
+        List<CacheStatsDTO> cacheStats = adminService.getCacheStats();
+
+        return ResponseEntity.ok(ResponseWrapper.ok(cacheStats, "Cache Stats Successfully Fetched"));
+    }
+
+    @GetMapping("/caches/expense-listings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<ExpenseListingCacheStatsDTO>> getExpenseListingCacheStats() {
+        ExpenseListingCacheStatsDTO stats = adminService.getExpenseListingCacheStats();
+
+        return ResponseEntity.ok(ResponseWrapper.ok(stats, "Expense Listing Cache Stats Successfully Fetched"));
+    }
+
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<PasswordHashingStatsDTO>> getPasswordHashingStats() {
+        PasswordHashingStatsDTO stats = adminService.getPasswordHashingStats();
+
+        return ResponseEntity.ok(ResponseWrapper.ok(stats, "Password Hashing Stats Successfully Fetched"));
+    }
+}
@@ -1,6 +1,8 @@
 package alexisTrejo.expenses.tracking.api.Controller;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.AuthTokensDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.LoginDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.RefreshTokenDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.User.UserDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.UserInsertDTO;
 import alexisTrejo.expenses.tracking.api.Middleware.JWTSecurity;
@@ -13,6 +15,8 @@ import alexisTrejo.expenses.tracking.api.Utils.Validations;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,23 +34,29 @@ public class AuthController {
     private final UserService userService;
     private final AuthService authService;
     private final JWTSecurity jwtSecurity;
+    private final int passwordHashingRetryAfterSeconds;
+    private final long loginLockoutMinutes;
 
     @Autowired
     public AuthController(UserService userService,
-                          AuthService authService, JWTSecurity jwtSecurity) {
+                          AuthService authService, JWTSecurity jwtSecurity,
+                          @Value("${expenses.password-hashing.retry-after-seconds:2}") int passwordHashingRetryAfterSeconds,
+                          @Value("${expenses.login.lockout-minutes:15}") long loginLockoutMinutes) {
         this.userService = userService;
         this.authService = authService;
         this.jwtSecurity = jwtSecurity;
+        this.passwordHashingRetryAfterSeconds = passwordHashingRetryAfterSeconds;
+        this.loginLockoutMinutes = loginLockoutMinutes;
     }
 
     @Operation(summary = "Register an employee",
-            description = "Registers a new employee and returns a JWT token")
+            description = "Registers a new employee and returns a JWT access token with a refresh token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User successfully registered"),
             @ApiResponse(responseCode = "400", description = "Bad Request: Invalid input or credentials")
     })
     @PostMapping("/register-employee")
-    public ResponseEntity<ResponseWrapper<String>> registerEmployee(@Valid @RequestBody UserInsertDTO userInsertDTO,
+    public ResponseEntity<ResponseWrapper<AuthTokensDTO>> registerEmployee(@Valid @RequestBody UserInsertDTO userInsertDTO,
                                                                     BindingResult bindingResult) {
         Result<Void> validationResult = Validations.validateDTO(bindingResult);
         if (!validationResult.isSuccess()) {
@@ -58,21 +68,25 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(credentialsResult.getErrorMessage()));
         }
 
-        UserDTO userDTO = userService.createUser(userInsertDTO, Role.EMPLOYEE);
+        Result<UserDTO> userResult = userService.createUser(userInsertDTO, Role.EMPLOYEE);
+        if (!userResult.isSuccess()) {
+            return errorResponse(userResult);
+        }
+        UserDTO userDTO = userResult.getData();
 
-        String JWT = authService.ProcessRegister(userDTO);
+        AuthTokensDTO tokens = authService.ProcessRegister(userDTO);
 
-        return ResponseEntity.ok(ResponseWrapper.ok(JWT, "User With Role:" + Role.EMPLOYEE.name() + " Successfully Registered"));
+        return ResponseEntity.ok(ResponseWrapper.ok(tokens, "User With Role:" + Role.EMPLOYEE.name() + " Successfully Registered"));
     }
 
     @Operation(summary = "Register a manager",
-            description = "Registers a new manager and returns a JWT token")
+            description = "Registers a new manager and returns a JWT access token with a refresh token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User successfully registered"),
             @ApiResponse(responseCode = "400", description = "Bad Request: Invalid input or credentials")
     })
     @PostMapping("/register-manager")
-    public ResponseEntity<ResponseWrapper<String>> registerManager(@Valid @RequestBody UserInsertDTO userInsertDTO,
+    public ResponseEntity<ResponseWrapper<AuthTokensDTO>> registerManager(@Valid @RequestBody UserInsertDTO userInsertDTO,
                                                                    BindingResult bindingResult) {
         Result<Void> validationResult = Validations.validateDTO(bindingResult);
         if (!validationResult.isSuccess()) {
@@ -84,21 +98,25 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(credentialsResult.getErrorMessage()));
         }
 
-        UserDTO userDTO = userService.createUser(userInsertDTO, Role.MANAGER);
+        Result<UserDTO> userResult = userService.createUser(userInsertDTO, Role.MANAGER);
+        if (!userResult.isSuccess()) {
+            return errorResponse(userResult);
+        }
+        UserDTO userDTO = userResult.getData();
 
-        String JWT = authService.ProcessRegister(userDTO);
-        return ResponseEntity.ok(ResponseWrapper.ok(JWT, "User With Role:" + Role.MANAGER.name() + " Successfully Registered"));
+        AuthTokensDTO tokens = authService.ProcessRegister(userDTO);
+        return ResponseEntity.ok(ResponseWrapper.ok(tokens, "User With Role:" + Role.MANAGER.name() + " Successfully Registered"));
     }
 
     @Operation(summary = "Register an admin",
-            description = "Registers a new admin and returns a JWT token")
+            description = "Registers a new admin and returns a JWT access token with a refresh token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User successfully registered"),
             @ApiResponse(responseCode = "400", description = "Bad Request: Invalid input or credentials")
     })
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/register-admin")
-    public ResponseEntity<ResponseWrapper<String>> registerAdmin(@Valid @RequestBody UserInsertDTO userInsertDTO,
+    public ResponseEntity<ResponseWrapper<AuthTokensDTO>> registerAdmin(@Valid @RequestBody UserInsertDTO userInsertDTO,
                                                                  BindingResult bindingResult) {
         Result<Void> validationResult = Validations.validateDTO(bindingResult);
         if (!validationResult.isSuccess()) {
@@ -110,37 +128,77 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(credentialsResult.getErrorMessage()));
         }
 
-        UserDTO userDTO = userService.createUser(userInsertDTO, Role.ADMIN);
+        Result<UserDTO> userResult = userService.createUser(userInsertDTO, Role.ADMIN);
+        if (!userResult.isSuccess()) {
+            return errorResponse(userResult);
+        }
+        UserDTO userDTO = userResult.getData();
 
-        String JWT = authService.ProcessRegister(userDTO);
-        return ResponseEntity.ok(ResponseWrapper.ok(JWT, "User With Role:" + Role.ADMIN.name() + " Successfully Registered"));
+        AuthTokensDTO tokens = authService.ProcessRegister(userDTO);
+        return ResponseEntity.ok(ResponseWrapper.ok(tokens, "User With Role:" + Role.ADMIN.name() + " Successfully Registered"));
     }
 
     @Operation(summary = "Login user",
-            description = "Logs in a user and returns a JWT token")
+            description = "Logs in a user and returns a JWT access token with a refresh token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successfully completed"),
             @ApiResponse(responseCode = "400", description = "Bad Request: Invalid login credentials")
     })
     @PostMapping("/login")
-    public ResponseEntity<ResponseWrapper<String>> login(@Valid @RequestBody LoginDTO loginDTO, BindingResult bindingResult) {
+    public ResponseEntity<ResponseWrapper<AuthTokensDTO>> login(@Valid @RequestBody LoginDTO loginDTO, BindingResult bindingResult) {
         Result<Void> validationResult = Validations.validateDTO(bindingResult);
         if (!validationResult.isSuccess()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(validationResult.getErrorMessage()));
         }
 
         Result<UserDTO> credentialsResult = authService.validateLoginCredentials(loginDTO);
+        if (credentialsResult.getStatus() == HttpStatus.SERVICE_UNAVAILABLE || credentialsResult.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            return errorResponse(credentialsResult);
+        }
         if (!credentialsResult.isSuccess()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(credentialsResult.getErrorMessage()));
         }
 
-        String JWT = authService.ProcessLogin(credentialsResult.getData());
+        AuthTokensDTO tokens = authService.ProcessLogin(credentialsResult.getData());
+
+        return ResponseEntity.ok(ResponseWrapper.ok(tokens, "Login Successfully Completed"));
+    }
+
+    @Operation(summary = "Refresh tokens",
+            description = "Trades a refresh token for a new access token and a new refresh token; the presented one can not be used again")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens successfully refreshed"),
+            @ApiResponse(responseCode = "400", description = "Bad Request: Missing refresh token"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized: Invalid, expired or already used refresh token")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<ResponseWrapper<AuthTokensDTO>> refresh(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO, BindingResult bindingResult) {
+        Result<Void> validationResult = Validations.validateDTO(bindingResult);
+        if (!validationResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(validationResult.getErrorMessage()));
+        }
+
+        Result<AuthTokensDTO> tokensResult = authService.refreshTokens(refreshTokenDTO.getRefreshToken());
+        if (!tokensResult.isSuccess()) {
+            return ResponseEntity.status(tokensResult.getStatus()).body(ResponseWrapper.unauthorized(tokensResult.getErrorMessage()));
+        }
 
-        return ResponseEntity.ok(ResponseWrapper.ok(JWT, "Login Successfully Completed"));
+        return ResponseEntity.ok(ResponseWrapper.ok(tokensResult.getData(), "Tokens Successfully Refreshed"));
     }
 
     @GetMapping("/role")
     public Object getRole(HttpServletRequest request) {
         return jwtSecurity.getRolesFromToken(request);
     }
+
+    // A saturated password hashing pool (503) and a locked email (429) come with the time to wait before retrying
+    private <T> ResponseEntity<ResponseWrapper<T>> errorResponse(Result<?> result) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(result.getStatus());
+        if (result.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingRetryAfterSeconds));
+        } else if (result.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(loginLockoutMinutes * 60));
+        }
+        return response.body(ResponseWrapper.error(result.getErrorMessage(), result.getStatus().value()));
+    }
 }
@@ -1,11 +1,17 @@
 package alexisTrejo.expenses.tracking.api.Controller;
 
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportResultDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseInsertDTO;
 import alexisTrejo.expenses.tracking.api.Middleware.JWTSecurity;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseImportService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.NotificationService;
+import alexisTrejo.expenses.tracking.api.Utils.Import.ExpenseImportFormat;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
 import alexisTrejo.expenses.tracking.api.Utils.ResponseWrapper;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import alexisTrejo.expenses.tracking.api.Utils.Validations;
@@ -16,31 +22,41 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/v1/api/employees/expenses")
 public class EmployeeExpenseController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ExpenseService expenseService;
     private final JWTSecurity jwtSecurity;
     private final NotificationService notificationService;
+    private final ExpenseImportService expenseImportService;
 
     @Autowired
     public EmployeeExpenseController(ExpenseService expenseService,
                                      JWTSecurity jwtSecurity,
-                                     NotificationService notificationService) {
+                                     NotificationService notificationService,
+                                     ExpenseImportService expenseImportService) {
         this.expenseService = expenseService;
         this.jwtSecurity = jwtSecurity;
         this.notificationService = notificationService;
+        this.expenseImportService = expenseImportService;
     }
 
     @Operation(summary = "Get expenses by user ID",
@@ -52,7 +68,7 @@ public class EmployeeExpenseController {
     })
     @GetMapping("/by-user/{userId}")
     @PreAuthorize("hasRole('Employee')")
-    public ResponseEntity<ResponseWrapper<Page<ExpenseDTO>>> getMyExpenses(
+    public ResponseEntity<ResponseWrapper<Page<ExpenseListItemDTO>>> getMyExpenses(
             @Parameter(description = "ID of the user") @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -65,7 +81,39 @@ public class EmployeeExpenseController {
         }
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<ExpenseDTO> expenseDTOPage = expenseService.getExpenseByUserId(userIdResult.getData(), pageable);
+        Page<ExpenseListItemDTO> expenseDTOPage = expenseService.getExpenseByUserId(userIdResult.getData(), pageable);
+        return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched"));
+    }
+
+    @Operation(summary = "Get expenses by user ID (cursor)",
+            description = "Fetches the authenticated user's expenses newest first using keyset pagination. Pass the returned next_cursor to get the following page; no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched expenses"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/by-user/{userId}/cursor")
+    @PreAuthorize("hasRole('Employee')")
+    public ResponseEntity<ResponseWrapper<CursorPage<ExpenseListItemDTO>>> getMyExpensesCursor(
+            @Parameter(description = "ID of the user") @PathVariable Long userId,
+            @Parameter(description = "next_cursor of the previous page, omit for the first page") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request) {
+
+        Result<Long> userIdResult = jwtSecurity.getUserIdFromToken(request);
+        if (!userIdResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ResponseWrapper.unauthorized(userIdResult.getErrorMessage()));
+        }
+
+        Result<ExpenseCursor> cursorResult = cursor == null || cursor.isBlank() ? Result.success(null) : ExpenseCursor.decode(cursor);
+        if (!cursorResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseWrapper.badRequest(cursorResult.getErrorMessage()));
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CursorPage<ExpenseListItemDTO> expenseDTOPage = expenseService.getExpenseByUserIdAfter(userIdResult.getData(), cursorResult.getData(), pageSize);
         return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched"));
     }
 
@@ -100,4 +148,42 @@ public class EmployeeExpenseController {
 
         return ResponseEntity.ok(ResponseWrapper.ok(null, "Expense Successfully Requested"));
     }
+
+    @Operation(summary = "Import expenses from a file",
+            description = "Stream-imports a CSV (with header row) or NDJSON file of expenses for any employee. Valid rows are inserted in JDBC batches; invalid lines are skipped and reported with their line number.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File processed, see the import report"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or malformed header")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseWrapper<ExpenseImportResultDTO>> importExpenses(
+            @Parameter(description = "CSV or NDJSON file to import") @RequestParam(value = "file") MultipartFile file,
+            @Parameter(description = "csv or ndjson, inferred from the file extension when omitted") @RequestParam(required = false) String format) throws IOException {
+
+        ExpenseImportFormat importFormat = ExpenseImportFormat.resolve(format, file.getOriginalFilename());
+        if (importFormat == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseWrapper.badRequest("Unsupported Import Format, Use csv Or ndjson"));
+        }
+
+        if (file.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ResponseWrapper.badRequest("Import File Is Empty"));
+        }
+
+        Result<ExpenseImportResultDTO> importResult;
+        try (InputStream inputStream = file.getInputStream()) {
+            importResult = expenseImportService.importExpenses(inputStream, importFormat);
+        }
+
+        if (!importResult.isSuccess()) {
+            return ResponseEntity.status(importResult.getStatus())
+                    .body(ResponseWrapper.error(importResult.getErrorMessage(), importResult.getStatus().value()));
+        }
+
+        ExpenseImportResultDTO importReport = importResult.getData();
+        return ResponseEntity.ok(ResponseWrapper.ok(importReport, importReport.getImportedRows() + " Of " + importReport.getTotalRows() + " Expenses Successfully Imported"));
+    }
 }
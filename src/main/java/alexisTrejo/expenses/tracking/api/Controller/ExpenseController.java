@@ -1,14 +1,28 @@
 package alexisTrejo.expenses.tracking.api.Controller;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionResultDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseRejectDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseSearchHitDTO;
 import alexisTrejo.expenses.tracking.api.Middleware.JWTSecurity;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseExportService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.NotificationService;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFormat;
+import alexisTrejo.expenses.tracking.api.Utils.Filter.ExpenseFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseSearchCursor;
 import alexisTrejo.expenses.tracking.api.Utils.ResponseWrapper;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
+import alexisTrejo.expenses.tracking.api.Utils.Search.ExpenseSearchQuery;
 import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummary;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryGroupBy;
 import alexisTrejo.expenses.tracking.api.Utils.Validations;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -17,33 +31,45 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/v1/api/manager/expenses")
 public class ExpenseController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ExpenseService expenseService;
     private final JWTSecurity jwtSecurity;
     private final NotificationService notificationService;
+    private final ExpenseExportService expenseExportService;
 
     @Autowired
     public ExpenseController(ExpenseService expenseService,
                              JWTSecurity jwtSecurity,
-                             NotificationService notificationService) {
+                             NotificationService notificationService,
+                             ExpenseExportService expenseExportService) {
         this.expenseService = expenseService;
         this.jwtSecurity = jwtSecurity;
         this.notificationService = notificationService;
+        this.expenseExportService = expenseExportService;
     }
 
     @Operation(summary = "Get Expense by ID", description = "Fetch an expense by its unique ID.")
@@ -68,11 +94,11 @@ public class ExpenseController {
     })
     @GetMapping("/by-user/{userId}")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<ResponseWrapper<Page<ExpenseDTO>>> getExpenseByUserId(@PathVariable Long userId,
+    public ResponseEntity<ResponseWrapper<Page<ExpenseListItemDTO>>> getExpenseByUserId(@PathVariable Long userId,
                                                                                 @RequestParam(defaultValue = "0") int page,
                                                                                 @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<ExpenseDTO> expenseDTOPage = expenseService.getExpenseByUserId(userId, pageable);
+        Page<ExpenseListItemDTO> expenseDTOPage = expenseService.getExpenseByUserId(userId, pageable);
 
         return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched"));
     }
@@ -83,7 +109,7 @@ public class ExpenseController {
     })
     @GetMapping("/by-status")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<ResponseWrapper<Page<ExpenseDTO>>> getExpensesByStatus(@RequestParam String status,
+    public ResponseEntity<ResponseWrapper<Page<ExpenseListItemDTO>>> getExpensesByStatus(@RequestParam String status,
                                                                                  @RequestParam(defaultValue = "0") int page,
                                                                                  @RequestParam(defaultValue = "10") int size,
                                                                                  @RequestParam(defaultValue = "true") Boolean isSortedASC) {
@@ -94,19 +120,224 @@ public class ExpenseController {
         ExpenseStatus expenseStatus = ExpenseStatus.findStatus(status).orElse(ExpenseStatus.PENDING);
 
         Pageable sortedPage = PageRequest.of(page, size, sort);
-        Page<ExpenseDTO> expenseDTOPage = expenseService.getAllExpenseByStatus(expenseStatus, sortedPage);
+        Page<ExpenseListItemDTO> expenseDTOPage = expenseService.getAllExpenseByStatus(expenseStatus, sortedPage);
 
         return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched. Sorted By: " + expenseStatus.toString() + " (" + direction +")"));
     }
 
-    @Operation(summary = "Get Expense Summary by Date Range", description = "Fetch the summary of expenses within a specified date range.")
+    @Operation(summary = "Get Expenses by User ID (cursor)", description = "Fetch expenses of a user newest first using keyset pagination. Pass the returned next_cursor to get the following page; no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Expense data successfully fetched."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.")
+    })
+    @GetMapping("/by-user/{userId}/cursor")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ResponseWrapper<CursorPage<ExpenseListItemDTO>>> getExpenseByUserIdCursor(@PathVariable Long userId,
+                                                                                            @RequestParam(required = false) String cursor,
+                                                                                            @RequestParam(defaultValue = "10") int size) {
+        Result<ExpenseCursor> cursorResult = decodeCursor(cursor);
+        if (!cursorResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(cursorResult.getErrorMessage()));
+        }
+
+        CursorPage<ExpenseListItemDTO> expenseDTOPage = expenseService.getExpenseByUserIdAfter(userId, cursorResult.getData(), clampCursorPageSize(size));
+
+        return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched"));
+    }
+
+    @Operation(summary = "Get Expenses by Status (cursor)", description = "Fetch expenses based on their status using keyset pagination. Pass the returned next_cursor to get the following page; no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Expense data successfully fetched."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.")
+    })
+    @GetMapping("/by-status/cursor")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ResponseWrapper<CursorPage<ExpenseListItemDTO>>> getExpensesByStatusCursor(@RequestParam String status,
+                                                                                             @RequestParam(required = false) String cursor,
+                                                                                             @RequestParam(defaultValue = "10") int size,
+                                                                                             @RequestParam(defaultValue = "true") Boolean isSortedASC) {
+        Result<ExpenseCursor> cursorResult = decodeCursor(cursor);
+        if (!cursorResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(cursorResult.getErrorMessage()));
+        }
+
+        // If params status received is not valid return PENDING as default
+        ExpenseStatus expenseStatus = ExpenseStatus.findStatus(status).orElse(ExpenseStatus.PENDING);
+
+        CursorPage<ExpenseListItemDTO> expenseDTOPage = expenseService.getAllExpenseByStatusAfter(expenseStatus, cursorResult.getData(), clampCursorPageSize(size), isSortedASC);
+
+        return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched. Sorted By: " + expenseStatus + " (" + (isSortedASC ? "ASC" : "DESC") + ")"));
+    }
+
+    @Operation(summary = "Filter Expenses", description = "Fetch expenses newest first matching any combination of status, category, date range, amount range, department, approver and user, using keyset pagination. Pass the returned next_cursor to get the following page; no total count is computed. At least one filter other than the amount range is required so the query can use an index. Admins can pass debug=explain to get the query plan instead of the results.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Expense data (or query plan) successfully fetched."),
+            @ApiResponse(responseCode = "400", description = "Invalid filter value, invalid cursor or no index-backed filter."),
+            @ApiResponse(responseCode = "403", description = "debug=explain requested by a non admin user.")
+    })
+    @GetMapping("/filter")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    public ResponseEntity<ResponseWrapper<?>> filterExpenses(HttpServletRequest request,
+                                                             @RequestParam(required = false) String status,
+                                                             @RequestParam(required = false) String category,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                             @RequestParam(required = false) Double minAmount,
+                                                             @RequestParam(required = false) Double maxAmount,
+                                                             @RequestParam(required = false) String department,
+                                                             @RequestParam(required = false) Long approvedById,
+                                                             @RequestParam(required = false) Long userId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "10") int size,
+                                                             @RequestParam(required = false) String debug) {
+        Optional<ExpenseStatus> expenseStatus = ExpenseStatus.findStatus(status);
+        if (status != null && expenseStatus.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Expense Status: " + status));
+        }
+
+        Optional<ExpenseCategory> expenseCategory = ExpenseCategory.findCategory(category);
+        if (category != null && expenseCategory.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Expense Category: " + category));
+        }
+
+        ExpenseFilter filter = new ExpenseFilter();
+        filter.setStatus(expenseStatus.orElse(null));
+        filter.setCategory(expenseCategory.orElse(null));
+        filter.setStartDate(startDate);
+        filter.setEndDate(endDate);
+        filter.setMinAmount(minAmount);
+        filter.setMaxAmount(maxAmount);
+        filter.setDepartment(department != null && !department.isBlank() ? department : null);
+        filter.setApprovedById(approvedById);
+        filter.setUserId(userId);
+
+        if (!filter.hasIndexedFilter()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("At Least One Filter Besides The Amount Range Is Required"));
+        }
+
+        Result<ExpenseCursor> cursorResult = decodeCursor(cursor);
+        if (!cursorResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(cursorResult.getErrorMessage()));
+        }
+        int pageSize = clampCursorPageSize(size);
+
+        if ("explain".equalsIgnoreCase(debug)) {
+            Result<List<String>> rolesResult = jwtSecurity.getRolesFromToken(request);
+            if (!rolesResult.isSuccess() || !rolesResult.getData().contains("ROLE_ADMIN")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ResponseWrapper.error("Query Plans Are Only Available To Admins", HttpStatus.FORBIDDEN.value()));
+            }
+
+            List<String> queryPlan = expenseService.explainExpenseFilter(filter, cursorResult.getData(), pageSize);
+            return ResponseEntity.ok(ResponseWrapper.ok(queryPlan, "Expense Filter Query Plan Successfully Fetched"));
+        }
+
+        CursorPage<ExpenseListItemDTO> expenseDTOPage = expenseService.filterExpenses(filter, cursorResult.getData(), pageSize);
+
+        return ResponseEntity.ok(ResponseWrapper.ok(expenseDTOPage, "Expense Data Successfully Fetched"));
+    }
+
+    @Operation(summary = "Search Expenses", description = "Full-text search over expense descriptions, most relevant first. Every word must match and the last one also matches as a prefix. Optionally filtered by status and user; pass the returned next_cursor to get the following page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results successfully fetched."),
+            @ApiResponse(responseCode = "400", description = "Empty query, invalid status or invalid cursor.")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ResponseWrapper<CursorPage<ExpenseSearchHitDTO>>> searchExpenses(@RequestParam String q,
+                                                                                     @RequestParam(required = false) String status,
+                                                                                     @RequestParam(required = false) Long userId,
+                                                                                     @RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(defaultValue = "10") int size) {
+        Optional<String> tsQuery = ExpenseSearchQuery.toPrefixTsQuery(q);
+        if (tsQuery.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Search Query Must Contain At Least One Word"));
+        }
+
+        Optional<ExpenseStatus> expenseStatus = ExpenseStatus.findStatus(status);
+        if (status != null && expenseStatus.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Expense Status: " + status));
+        }
+
+        Result<ExpenseSearchCursor> cursorResult = cursor == null || cursor.isBlank() ? Result.success(null) : ExpenseSearchCursor.decode(cursor);
+        if (!cursorResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(cursorResult.getErrorMessage()));
+        }
+
+        CursorPage<ExpenseSearchHitDTO> searchPage = expenseService.searchExpenses(tsQuery.get(), expenseStatus.orElse(null), userId, cursorResult.getData(), clampCursorPageSize(size));
+
+        return ResponseEntity.ok(ResponseWrapper.ok(searchPage, "Expense Search Successfully Fetched"));
+    }
+
+    @Operation(summary = "Export Expenses", description = "Stream every expense matching the optional status, category and date range filters as CSV or NDJSON, using the expense field names. The response is gzip encoded when the client sends Accept-Encoding: gzip.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Expense export streamed."),
+            @ApiResponse(responseCode = "400", description = "Invalid format, status, category or date range.")
+    })
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> exportExpenses(@RequestParam(defaultValue = "csv") String format,
+                                            @RequestParam(required = false) String status,
+                                            @RequestParam(required = false) String category,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Optional<ExpenseExportFormat> exportFormat = ExpenseExportFormat.findFormat(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Unsupported Export Format, Use csv Or ndjson"));
+        }
+
+        // Unlike the listings an unknown filter is rejected, silently widening an extract would be worse
+        Optional<ExpenseStatus> expenseStatus = ExpenseStatus.findStatus(status);
+        if (status != null && expenseStatus.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Expense Status: " + status));
+        }
+
+        Optional<ExpenseCategory> expenseCategory = ExpenseCategory.findCategory(category);
+        if (category != null && expenseCategory.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("Invalid Expense Category: " + category));
+        }
+
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest("startDate Must Be Before endDate"));
+        }
+
+        ExpenseExportFilter filter = new ExpenseExportFilter(expenseStatus.orElse(null), expenseCategory.orElse(null), startDate, endDate);
+        ExpenseExportFormat selectedFormat = exportFormat.get();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody responseBody = outputStream -> {
+            if (!gzip) {
+                expenseExportService.exportExpenses(filter, selectedFormat, outputStream);
+                return;
+            }
+
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+            expenseExportService.exportExpenses(filter, selectedFormat, gzipOutputStream);
+            gzipOutputStream.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(selectedFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"expenses-" + LocalDate.now() + "." + selectedFormat.getFileExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(responseBody);
+    }
+
+    @Operation(summary = "Get Expense Summary by Date Range", description = "Fetch the summary of expenses within a specified date range, optionally grouped by category or department.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Expense summary successfully fetched."),
     })
     @GetMapping("/summary")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseWrapper<ExpenseSummary> getExpenseSummaryByDateRange(@RequestParam(required = false) LocalDateTime startDate,
-                                                                        @RequestParam(required = false) LocalDateTime endDate) {
+                                                                        @RequestParam(required = false) LocalDateTime endDate,
+                                                                        @RequestParam(required = false) String groupBy) {
+        // If params groupBy received is not valid return the plain status summary
+        ExpenseSummaryGroupBy summaryGroupBy = ExpenseSummaryGroupBy.findGroupBy(groupBy).orElse(ExpenseSummaryGroupBy.NONE);
 
         // If both startDate or endDate are null, get the current month summary
         if (startDate == null || endDate == null) {
@@ -115,11 +346,11 @@ public class ExpenseController {
             LocalDateTime endMonth = LocalDateTime.of(currentDate.getYear(), currentDate.getMonth(), currentDate.lengthOfMonth(), 23, 59, 59);
 
             // Fetch the monthly summary
-            ExpenseSummary monthlySummary = expenseService.getExpenseSummaryByDateRange(startMonth, endMonth);
+            ExpenseSummary monthlySummary = expenseService.getExpenseSummaryByDateRange(startMonth, endMonth, summaryGroupBy);
             return ResponseWrapper.ok(monthlySummary, "Monthly Expense Summary Successfully Fetched With Date Range: " + monthlySummary.getSummaryDateRange());
         }
 
-        ExpenseSummary expenseSummary = expenseService.getExpenseSummaryByDateRange(startDate, endDate);
+        ExpenseSummary expenseSummary = expenseService.getExpenseSummaryByDateRange(startDate, endDate, summaryGroupBy);
 
         return ResponseWrapper.ok(expenseSummary, "Expense Summary Successfully Fetched With Date Range: " + expenseSummary.getSummaryDateRange());
     }
@@ -128,7 +359,8 @@ public class ExpenseController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Expense successfully approved."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
-            @ApiResponse(responseCode = "404", description = "Expense not found.")
+            @ApiResponse(responseCode = "404", description = "Expense not found."),
+            @ApiResponse(responseCode = "409", description = "Expense is no longer pending.")
     })
     @PutMapping("{expenseId}/approve")
     @PreAuthorize("hasRole('MANAGER')")
@@ -155,7 +387,8 @@ public class ExpenseController {
             @ApiResponse(responseCode = "200", description = "Expense successfully rejected."),
             @ApiResponse(responseCode = "401", description = "Unauthorized access."),
             @ApiResponse(responseCode = "400", description = "Bad request due to validation errors."),
-            @ApiResponse(responseCode = "404", description = "Expense not found.")
+            @ApiResponse(responseCode = "404", description = "Expense not found."),
+            @ApiResponse(responseCode = "409", description = "Expense is no longer pending.")
     })
     @PutMapping("/{expenseId}/reject")
     @PreAuthorize("hasRole('MANAGER')")
@@ -183,6 +416,40 @@ public class ExpenseController {
         return ResponseEntity.ok(ResponseWrapper.ok(null, "Expense With Id " + expenseRejectDTO.getExpenseId() + " Successfully Rejected"));
     }
 
+    @Operation(summary = "Bulk Approve/Reject Expenses", description = "Approve or reject many pending expenses at once. Each id gets its own outcome; ids that are no longer pending are reported instead of failing the whole batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk decision processed, see the per-expense outcomes."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access."),
+            @ApiResponse(responseCode = "400", description = "Bad request due to validation errors.")
+    })
+    @PostMapping("/bulk-decision")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ResponseWrapper<BulkDecisionResultDTO>> bulkDecision(HttpServletRequest request,
+                                                                               @Valid @RequestBody BulkDecisionDTO bulkDecisionDTO,
+                                                                               BindingResult bindingResult) {
+        Result<Long> userIdResult = jwtSecurity.getUserIdFromToken(request);
+        if (!userIdResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ResponseWrapper.unauthorized(userIdResult.getErrorMessage()));
+        }
+
+        Result<Void> validationResult = Validations.validateDTO(bindingResult);
+        if (!validationResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ResponseWrapper.badRequest(validationResult.getErrorMessage()));
+        }
+
+        Result<BulkDecisionResultDTO> decisionResult = expenseService.applyBulkDecision(bulkDecisionDTO, userIdResult.getData());
+        if (!decisionResult.isSuccess()) {
+            return ResponseEntity.status(decisionResult.getStatus()).body(ResponseWrapper.error(decisionResult.getErrorMessage(), decisionResult.getStatus().value()));
+        }
+
+        BulkDecisionResultDTO bulkDecisionResult = decisionResult.getData();
+
+        // Run in another thread and create and send all the notifications in one batch
+        notificationService.sendNotificationsFromExpenses(bulkDecisionResult.getDecidedExpenses());
+
+        return ResponseEntity.ok(ResponseWrapper.ok(bulkDecisionResult, bulkDecisionResult.getProcessed() + " Of " + bulkDecisionResult.getRequested() + " Expenses Successfully Processed"));
+    }
+
     @Operation(summary = "Soft Delete Expense by ID", description = "Soft delete an expense by its unique ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Expense successfully deleted."),
@@ -198,4 +465,13 @@ public class ExpenseController {
 
         return ResponseEntity.ok(ResponseWrapper.ok(null, "Expense Successfully Deleted"));
     }
+
+    // A missing cursor means the first page
+    private Result<ExpenseCursor> decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? Result.success(null) : ExpenseCursor.decode(cursor);
+    }
+
+    private int clampCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
 }
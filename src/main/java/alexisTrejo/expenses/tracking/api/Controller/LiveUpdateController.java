@@ -0,0 +1,63 @@
+package alexisTrejo.expenses.tracking.api.Controller;
+
+import alexisTrejo.expenses.tracking.api.Middleware.JWTSecurity;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.LiveUpdateService;
+import alexisTrejo.expenses.tracking.api.Utils.ResponseWrapper;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/api/live")
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+    private final JWTSecurity jwtSecurity;
+
+    @Autowired
+    public LiveUpdateController(LiveUpdateService liveUpdateService, JWTSecurity jwtSecurity) {
+        this.liveUpdateService = liveUpdateService;
+        this.jwtSecurity = jwtSecurity;
+    }
+
+    @Operation(summary = "Subscribe to Live Updates", description = "Open a Server-Sent Events stream. Admins receive 'dashboard' events with the dashboard counts and what changed; managers receive 'pending-expenses' events with the expenses that entered or left the approval queue. At most one event of each kind is sent per push interval.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened."),
+            @ApiResponse(responseCode = "403", description = "User is neither an admin nor a manager."),
+            @ApiResponse(responseCode = "503", description = "Subscriber limit reached.")
+    })
+    @GetMapping("/stream")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<?> subscribe(HttpServletRequest request) {
+        Result<Long> userIdResult = jwtSecurity.getUserIdFromToken(request);
+        Result<List<String>> rolesResult = jwtSecurity.getRolesFromToken(request);
+        if (!userIdResult.isSuccess() || !rolesResult.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ResponseWrapper.error("Invalid Token", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        Result<SseEmitter> subscriptionResult = liveUpdateService.subscribe(userIdResult.getData(), rolesResult.getData());
+        if (!subscriptionResult.isSuccess()) {
+            return ResponseEntity.status(subscriptionResult.getStatus())
+                    .body(ResponseWrapper.error(subscriptionResult.getErrorMessage(), subscriptionResult.getStatus().value()));
+        }
+
+        // Keeps buffering proxies from holding frames back
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(subscriptionResult.getData());
+    }
+}
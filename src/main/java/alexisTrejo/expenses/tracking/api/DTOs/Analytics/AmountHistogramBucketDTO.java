@@ -0,0 +1,21 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Analytics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountHistogramBucketDTO {
+    @JsonProperty("min_amount")
+    private double minAmount;
+
+    // Null for the last bucket, which is open ended
+    @JsonProperty("max_amount")
+    private Double maxAmount;
+
+    @JsonProperty("expense_count")
+    private long expenseCount;
+}
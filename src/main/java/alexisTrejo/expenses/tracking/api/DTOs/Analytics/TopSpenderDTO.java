@@ -0,0 +1,17 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Analytics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopSpenderDTO {
+    @JsonProperty("user_id")
+    private Long userId;
+
+    @JsonProperty("total_amount")
+    private double totalAmount;
+}
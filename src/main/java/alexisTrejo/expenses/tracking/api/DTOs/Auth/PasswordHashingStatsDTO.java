@@ -0,0 +1,47 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Auth;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStatsDTO {
+
+    @JsonProperty("threads")
+    private int threads;
+
+    @JsonProperty("active_threads")
+    private int activeThreads;
+
+    @JsonProperty("queued_tasks")
+    private int queuedTasks;
+
+    @JsonProperty("queue_capacity")
+    private int queueCapacity;
+
+    @JsonProperty("completed_tasks")
+    private long completedTasks;
+
+    @JsonProperty("rejected_tasks")
+    private long rejectedTasks;
+
+    @JsonProperty("timed_out_tasks")
+    private long timedOutTasks;
+
+    @JsonProperty("average_queue_wait_ms")
+    private double averageQueueWaitMs;
+
+    @JsonProperty("max_queue_wait_ms")
+    private double maxQueueWaitMs;
+
+    @JsonProperty("average_hash_time_ms")
+    private double averageHashTimeMs;
+
+    @JsonProperty("max_hash_time_ms")
+    private double maxHashTimeMs;
+}
@@ -0,0 +1,60 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("entries")
+    private long entries;
+
+    // Maximum size, or maximum weight in rows when weighted; null when unbounded
+    @JsonProperty("maximum")
+    private Long maximum;
+
+    @JsonProperty("weighted")
+    private boolean weighted;
+
+    @JsonProperty("weighted_size")
+    private Long weightedSize;
+
+    @JsonProperty("hit_count")
+    private long hitCount;
+
+    @JsonProperty("miss_count")
+    private long missCount;
+
+    @JsonProperty("hit_ratio")
+    private double hitRatio;
+
+    @JsonProperty("eviction_count")
+    private long evictionCount;
+
+    @JsonProperty("eviction_weight")
+    private long evictionWeight;
+
+    @JsonProperty("load_count")
+    private long loadCount;
+
+    @JsonProperty("load_failure_count")
+    private long loadFailureCount;
+
+    @JsonProperty("average_load_time_ms")
+    private double averageLoadTimeMs;
+
+    @JsonProperty("total_load_time_ms")
+    private double totalLoadTimeMs;
+
+    @JsonProperty("estimated_memory_bytes")
+    private long estimatedMemoryBytes;
+}
@@ -0,0 +1,33 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Cache;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseListingCacheStatsDTO {
+
+    @JsonProperty("entries")
+    private long entries;
+
+    @JsonProperty("hit_count")
+    private long hitCount;
+
+    @JsonProperty("miss_count")
+    private long missCount;
+
+    @JsonProperty("hit_ratio")
+    private double hitRatio;
+
+    @JsonProperty("eviction_count")
+    private long evictionCount;
+
+    @JsonProperty("invalidated_entries")
+    private Map<ExpenseStatus, Long> invalidatedEntries;
+}
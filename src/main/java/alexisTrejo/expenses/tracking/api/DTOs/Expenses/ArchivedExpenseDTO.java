@@ -0,0 +1,44 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseArchiveReason;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An expense read back from expenses_archive, with the attachment urls and reimbursement
+ * that were moved out of the live tables together with it.
+ */
+@Data
+@NoArgsConstructor
+public class ArchivedExpenseDTO {
+
+    @JsonUnwrapped
+    private ExpenseListItemDTO expense;
+
+    @JsonProperty("deleted_at")
+    private LocalDateTime deletedAt;
+
+    @JsonProperty("reimbursement_id")
+    private Long reimbursementId;
+
+    @JsonProperty("reimbursement_processed_by_id")
+    private Long reimbursementProcessedById;
+
+    @JsonProperty("reimbursement_date")
+    private LocalDate reimbursementDate;
+
+    @JsonProperty("attachment_urls")
+    private List<String> attachmentUrls;
+
+    @JsonProperty("archive_reason")
+    private ExpenseArchiveReason archiveReason;
+
+    @JsonProperty("archived_at")
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,29 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseDecision;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class BulkDecisionDTO {
+
+    @JsonProperty("expense_ids")
+    @NotEmpty(message = "expense_ids can't be empty")
+    @Size(max = 5000, message = "expense_ids must not exceed 5000 ids")
+    private List<Long> expenseIds;
+
+    @JsonProperty("decision")
+    @NotNull(message = "decision is obligatory")
+    private ExpenseDecision decision;
+
+    @JsonProperty("reject_reason")
+    @Size(max = 255, message = "reject_reason must not exceed 255 characters")
+    private String rejectReason;
+}
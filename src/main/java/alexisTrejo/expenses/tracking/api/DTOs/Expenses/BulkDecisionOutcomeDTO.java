@@ -0,0 +1,28 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionOutcomeDTO {
+
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        ALREADY_PROCESSED,
+        NOT_FOUND
+    }
+
+    @JsonProperty("expense_id")
+    private Long expenseId;
+
+    @JsonProperty("outcome")
+    private Outcome outcome;
+
+    @JsonProperty("message")
+    private String message;
+}
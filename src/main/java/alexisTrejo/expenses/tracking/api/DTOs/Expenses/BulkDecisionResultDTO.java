@@ -0,0 +1,32 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseDecision;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionResultDTO {
+
+    @JsonProperty("decision")
+    private ExpenseDecision decision;
+
+    @JsonProperty("requested")
+    private int requested;
+
+    @JsonProperty("processed")
+    private int processed;
+
+    @JsonProperty("outcomes")
+    private List<BulkDecisionOutcomeDTO> outcomes;
+
+    // Expenses whose status changed, used to queue their notifications; not part of the response
+    @JsonIgnore
+    private List<ExpenseDTO> decidedExpenses;
+}
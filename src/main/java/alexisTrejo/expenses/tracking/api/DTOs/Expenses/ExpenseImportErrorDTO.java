@@ -0,0 +1,18 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseImportErrorDTO {
+
+    @JsonProperty("line")
+    private long line;
+
+    @JsonProperty("message")
+    private String message;
+}
@@ -0,0 +1,39 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import alexisTrejo.expenses.tracking.api.Utils.Import.ExpenseImportFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ExpenseImportResultDTO {
+
+    @JsonProperty("format")
+    private ExpenseImportFormat format;
+
+    @JsonProperty("total_rows")
+    private long totalRows;
+
+    @JsonProperty("imported_rows")
+    private long importedRows;
+
+    @JsonProperty("failed_rows")
+    private long failedRows;
+
+    @JsonProperty("elapsed_ms")
+    private long elapsedMs;
+
+    @JsonProperty("rows_per_second")
+    private double rowsPerSecond;
+
+    // Only the first errors are listed, failed_rows always has the full count
+    @JsonProperty("errors")
+    private List<ExpenseImportErrorDTO> errors = new ArrayList<>();
+
+    @JsonProperty("errors_truncated")
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,21 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One line of an expense import file: the same fields and constraints as a single
+ * expense request plus the employee the expense belongs to.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExpenseImportRowDTO extends ExpenseInsertDTO {
+
+    @JsonProperty("user_id")
+    @NotNull(message = "user_id Is Obligatory")
+    private Long userId;
+}
@@ -0,0 +1,54 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of the expense listings, projected straight from the query so no managed entity,
+ * snapshot or attachment collection is loaded. {@link ExpenseDTO} remains the detail view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseListItemDTO {
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("user_id")
+    private Long userId;
+
+    @JsonProperty("amount")
+    private Double amount;
+
+    @JsonProperty("category")
+    private ExpenseCategory category;
+
+    @JsonProperty("description")
+    private String description;
+
+    @JsonProperty("date")
+    private LocalDate date;
+
+    @JsonProperty("receipt_url")
+    private String receiptUrl;
+
+    @JsonProperty("status")
+    private ExpenseStatus status;
+
+    @JsonProperty("approved_by_id")
+    private Long approvedById;
+
+    @JsonProperty("rejection_reason")
+    private String rejectionReason;
+
+    @JsonProperty("created_at")
+    private LocalDateTime createdAt;
+}
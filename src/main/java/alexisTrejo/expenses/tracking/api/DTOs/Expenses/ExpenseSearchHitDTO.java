@@ -0,0 +1,20 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Expenses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseSearchHitDTO {
+
+    @JsonUnwrapped
+    private ExpenseListItemDTO expense;
+
+    // ts_rank of the description against the query, higher is more relevant
+    @JsonProperty("rank")
+    private float rank;
+}
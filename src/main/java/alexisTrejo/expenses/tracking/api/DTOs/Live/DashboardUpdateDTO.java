@@ -0,0 +1,25 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Live;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.AdminDashboardDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Current dashboard plus the fields that moved since the previous frame, keyed by their
+ * dashboard JSON names. The first frame of a subscription has no changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardUpdateDTO {
+
+    @JsonProperty("dashboard")
+    private AdminDashboardDTO dashboard;
+
+    @JsonProperty("changes")
+    private Map<String, Integer> changes;
+}
@@ -0,0 +1,34 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Live;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingExpenseEventDTO {
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("user_id")
+    private Long userId;
+
+    @JsonProperty("amount")
+    private Double amount;
+
+    @JsonProperty("category")
+    private ExpenseCategory category;
+
+    @JsonProperty("date")
+    private LocalDate date;
+
+    @JsonProperty("created_at")
+    private LocalDateTime createdAt;
+}
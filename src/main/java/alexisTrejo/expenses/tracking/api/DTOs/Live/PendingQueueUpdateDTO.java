@@ -0,0 +1,27 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Live;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes to the pending approval queue since the previous frame. When resync is set some
+ * changes were dropped and the client should refetch the queue instead of applying the lists.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingQueueUpdateDTO {
+
+    @JsonProperty("added")
+    private List<PendingExpenseEventDTO> added;
+
+    @JsonProperty("removed_ids")
+    private List<Long> removedIds;
+
+    @JsonProperty("resync")
+    private boolean resync;
+}
@@ -0,0 +1,21 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Partitions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpensePartitionDTO {
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("bounds")
+    private String bounds;
+
+    // From pg_class.reltuples, only as fresh as the last ANALYZE
+    @JsonProperty("estimated_rows")
+    private long estimatedRows;
+}
@@ -0,0 +1,19 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Partitions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionMaintenanceDTO {
+    @JsonProperty("created_partitions")
+    private List<String> createdPartitions;
+
+    @JsonProperty("archived_partitions")
+    private List<String> archivedPartitions;
+}
@@ -0,0 +1,28 @@
+package alexisTrejo.expenses.tracking.api.DTOs.Partitions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionPruningCheckDTO {
+    @JsonProperty("query")
+    private String query;
+
+    @JsonProperty("partitions_total")
+    private int partitionsTotal;
+
+    @JsonProperty("partitions_scanned")
+    private int partitionsScanned;
+
+    @JsonProperty("pruned")
+    private boolean pruned;
+
+    @JsonProperty("plan")
+    private List<String> plan;
+}
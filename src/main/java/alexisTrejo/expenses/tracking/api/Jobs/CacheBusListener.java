@@ -0,0 +1,188 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Config.Cache.BroadcastingCacheManager;
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
+import alexisTrejo.expenses.tracking.api.Repository.CacheBusRepository;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.CacheBusDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseAnalyticsDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseListingCacheDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseLiveFeedDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseStatusCounterDomainService;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusMessage;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies the cache bus messages of the other nodes to the local caches. Listens on its own
+ * connection, outside the pool, from a daemon thread. After a lost connection it reconnects with
+ * backoff and, since notifications sent meanwhile are gone, drops every local cache,
+ * reconciles the status counters, asks live pending queue subscribers to refetch and reloads
+ * the columnar analytics store.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "expenses.cache-bus.enabled", havingValue = "true")
+public class CacheBusListener implements SmartLifecycle {
+
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final CacheBusDomainService cacheBusDomainService;
+    private final BroadcastingCacheManager cacheManager;
+    private final ExpenseListingCacheDomainService expenseListingCacheDomainService;
+    private final ExpenseStatusCounterDomainService expenseStatusCounterDomainService;
+    private final ExpenseLiveFeedDomainService expenseLiveFeedDomainService;
+    private final ExpenseAnalyticsDomainService expenseAnalyticsDomainService;
+    private final DataSourceProperties dataSourceProperties;
+    private final int pollTimeoutMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Autowired
+    public CacheBusListener(CacheBusDomainService cacheBusDomainService,
+                            BroadcastingCacheManager cacheManager,
+                            ExpenseListingCacheDomainService expenseListingCacheDomainService,
+                            ExpenseStatusCounterDomainService expenseStatusCounterDomainService,
+                            ExpenseLiveFeedDomainService expenseLiveFeedDomainService,
+                            ExpenseAnalyticsDomainService expenseAnalyticsDomainService,
+                            DataSourceProperties dataSourceProperties,
+                            @Value("${expenses.cache-bus.poll-timeout-ms:10000}") int pollTimeoutMs) {
+        this.cacheBusDomainService = cacheBusDomainService;
+        this.cacheManager = cacheManager;
+        this.expenseListingCacheDomainService = expenseListingCacheDomainService;
+        this.expenseStatusCounterDomainService = expenseStatusCounterDomainService;
+        this.expenseLiveFeedDomainService = expenseLiveFeedDomainService;
+        this.expenseAnalyticsDomainService = expenseAnalyticsDomainService;
+        this.dataSourceProperties = dataSourceProperties;
+        this.pollTimeoutMs = pollTimeoutMs;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        long reconnectDelayMs = 500;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheBusRepository.CHANNEL);
+                }
+                if (connectedBefore) {
+                    log.info("Cache bus listener reconnected, dropping local caches missed while disconnected");
+                    resync();
+                }
+                connectedBefore = true;
+                reconnectDelayMs = 500;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    // Blocks until notifications arrive or the timeout passes; throws once the connection is gone
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null && notifications.length > 0) {
+                        handle(notifications);
+                    } else if (!connection.isValid(5)) {
+                        throw new SQLException("Cache bus connection is no longer valid");
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache bus listener lost its connection, retrying in {} ms: {}", reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+            }
+        }
+    }
+
+    private void handle(PGNotification[] notifications) {
+        for (PGNotification notification : notifications) {
+            try {
+                CacheBusMessage message = cacheBusDomainService.parse(notification.getParameter());
+                if (!cacheBusDomainService.getNodeId().equals(message.getNodeId())) {
+                    message.getEvents().forEach(this::apply);
+                }
+            } catch (Exception e) {
+                // One bad message must not stop the listener; the TTLs and the next reconcile bound the damage
+                log.error("Could not apply cache bus message: {}", notification.getParameter(), e);
+            }
+        }
+    }
+
+    private void apply(CacheBusEvent event) {
+        switch (event.getType()) {
+            case EVICT -> cacheManager.evictLocally(event.getCacheName(), event.getKey());
+            case CLEAR -> cacheManager.clearLocally(event.getCacheName());
+            case LISTING_CHANGES -> expenseListingCacheDomainService.applyChanges(event.getStatus(), decodePositions(event.getPositions()));
+            case LISTING_INVALIDATE -> expenseListingCacheDomainService.applyInvalidateStatus(event.getStatus());
+            case STATUS_DELTAS -> expenseStatusCounterDomainService.applyDeltas(event.getDeltas());
+            case PENDING_QUEUE_CHANGES -> expenseLiveFeedDomainService.applyChanges(event.getAdded(), event.getRemovedIds());
+            case PENDING_QUEUE_RESYNC -> expenseLiveFeedDomainService.applyResync();
+            case ANALYTICS_CHANGES -> expenseAnalyticsDomainService.applyChanges(event.getUpserts(), event.getRemovedIds());
+        }
+    }
+
+    private void resync() {
+        for (String cacheName : CacheConfig.CACHE_NAMES) {
+            cacheManager.clearLocally(cacheName);
+        }
+        expenseListingCacheDomainService.applyInvalidateAll();
+        expenseStatusCounterDomainService.reconcile();
+        expenseLiveFeedDomainService.applyResync();
+        // Notifications arriving meanwhile wait on the connection and are applied onto the reloaded store in commit order
+        expenseAnalyticsDomainService.reload();
+    }
+
+    private static List<ExpenseCursor> decodePositions(List<String> encodedPositions) {
+        List<ExpenseCursor> positions = new ArrayList<>(encodedPositions.size());
+        for (String encodedPosition : encodedPositions) {
+            Result<ExpenseCursor> position = ExpenseCursor.decode(encodedPosition);
+            if (position.isSuccess()) {
+                positions.add(position.getData());
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,37 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseAnalyticsDomainService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the columnar analytics store in the background once the application is up, and
+ * rebuilds it nightly to drop any drift from writes that bypassed the service layer.
+ */
+@Component
+@ConditionalOnProperty(name = "expenses.analytics.backend", havingValue = "columnar")
+public class ExpenseAnalyticsJob {
+
+    private final ExpenseAnalyticsDomainService expenseAnalyticsDomainService;
+
+    @Autowired
+    public ExpenseAnalyticsJob(ExpenseAnalyticsDomainService expenseAnalyticsDomainService) {
+        this.expenseAnalyticsDomainService = expenseAnalyticsDomainService;
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        expenseAnalyticsDomainService.reload();
+    }
+
+    @Scheduled(cron = "${expenses.analytics.reload-cron:0 15 4 * * *}")
+    public void reload() {
+        expenseAnalyticsDomainService.reload();
+    }
+}
@@ -0,0 +1,24 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseArchiveDomainService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "expenses.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpenseArchiveJob {
+
+    private final ExpenseArchiveDomainService archiveDomainService;
+
+    @Autowired
+    public ExpenseArchiveJob(ExpenseArchiveDomainService archiveDomainService) {
+        this.archiveDomainService = archiveDomainService;
+    }
+
+    @Scheduled(cron = "${expenses.archive.cron:0 0 3 * * *}")
+    public void archiveColdExpenses() {
+        archiveDomainService.archiveColdExpenses();
+    }
+}
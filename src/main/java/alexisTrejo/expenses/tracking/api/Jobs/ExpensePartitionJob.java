@@ -0,0 +1,36 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpensePartitionDomainService;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tops up future partitions on startup (after Hibernate and the db/ scripts have run) and once a
+ * day. Nothing happens until an admin has converted expenses, see POST /expense-partitions/convert.
+ */
+@Component
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(name = "expenses.partitioning.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpensePartitionJob implements InitializingBean {
+
+    private final ExpensePartitionDomainService partitionDomainService;
+
+    @Autowired
+    public ExpensePartitionJob(ExpensePartitionDomainService partitionDomainService) {
+        this.partitionDomainService = partitionDomainService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        partitionDomainService.maintain();
+    }
+
+    @Scheduled(cron = "${expenses.partitioning.maintenance-cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        partitionDomainService.maintain();
+    }
+}
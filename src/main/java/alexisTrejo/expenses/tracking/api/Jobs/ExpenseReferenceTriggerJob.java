@@ -0,0 +1,29 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpensePartitionDomainService;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the triggers that stand in for the foreign keys from attachments and reimbursements
+ * into expenses, once Hibernate and the db/ scripts have created the tables. Runs whether or not
+ * partitioning is enabled, since the mappings never create those foreign keys.
+ */
+@Component
+@DependsOnDatabaseInitialization
+public class ExpenseReferenceTriggerJob implements InitializingBean {
+
+    private final ExpensePartitionDomainService partitionDomainService;
+
+    @Autowired
+    public ExpenseReferenceTriggerJob(ExpensePartitionDomainService partitionDomainService) {
+        this.partitionDomainService = partitionDomainService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        partitionDomainService.installReferenceTriggers();
+    }
+}
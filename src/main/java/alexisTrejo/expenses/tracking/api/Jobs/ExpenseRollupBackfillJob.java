@@ -0,0 +1,36 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseRollupDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseStatusCounterDomainService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills expense_daily_rollups from the expenses once the application is up if nothing has filled
+ * them yet, so summaries are right after the first deploy without a manual rebuild.
+ */
+@Component
+public class ExpenseRollupBackfillJob {
+
+    private final ExpenseRollupDomainService expenseRollupDomainService;
+    private final ExpenseStatusCounterDomainService expenseStatusCounterDomainService;
+
+    @Autowired
+    public ExpenseRollupBackfillJob(ExpenseRollupDomainService expenseRollupDomainService,
+                                    ExpenseStatusCounterDomainService expenseStatusCounterDomainService) {
+        this.expenseRollupDomainService = expenseRollupDomainService;
+        this.expenseStatusCounterDomainService = expenseStatusCounterDomainService;
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (expenseRollupDomainService.backfillIfEmpty()) {
+            // The counters may have been seeded before the rollups existed
+            expenseStatusCounterDomainService.reconcile();
+        }
+    }
+}
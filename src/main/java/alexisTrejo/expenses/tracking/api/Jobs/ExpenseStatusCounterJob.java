@@ -0,0 +1,26 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseStatusCounterDomainService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the dashboard status counters right after startup (the first run) and then reconciles
+ * them with the database at a fixed interval.
+ */
+@Component
+public class ExpenseStatusCounterJob {
+
+    private final ExpenseStatusCounterDomainService expenseStatusCounterDomainService;
+
+    @Autowired
+    public ExpenseStatusCounterJob(ExpenseStatusCounterDomainService expenseStatusCounterDomainService) {
+        this.expenseStatusCounterDomainService = expenseStatusCounterDomainService;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${expenses.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        expenseStatusCounterDomainService.reconcile();
+    }
+}
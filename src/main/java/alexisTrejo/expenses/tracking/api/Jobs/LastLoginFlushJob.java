@@ -0,0 +1,22 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.LastLoginDomainService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LastLoginFlushJob {
+
+    private final LastLoginDomainService lastLoginDomainService;
+
+    @Autowired
+    public LastLoginFlushJob(LastLoginDomainService lastLoginDomainService) {
+        this.lastLoginDomainService = lastLoginDomainService;
+    }
+
+    @Scheduled(fixedDelayString = "${expenses.auth.last-login-flush-interval-ms:5000}")
+    public void flushLastLogins() {
+        lastLoginDomainService.flush();
+    }
+}
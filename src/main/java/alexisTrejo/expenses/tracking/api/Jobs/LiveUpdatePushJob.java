@@ -0,0 +1,30 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.LiveUpdateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces live updates: whatever changed during one push interval goes out as a single frame.
+ */
+@Component
+public class LiveUpdatePushJob {
+
+    private final LiveUpdateService liveUpdateService;
+
+    @Autowired
+    public LiveUpdatePushJob(LiveUpdateService liveUpdateService) {
+        this.liveUpdateService = liveUpdateService;
+    }
+
+    @Scheduled(fixedDelayString = "${expenses.live.push-interval-ms:1000}")
+    public void pushUpdates() {
+        liveUpdateService.pushUpdates();
+    }
+
+    @Scheduled(fixedDelayString = "${expenses.live.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        liveUpdateService.sendHeartbeat();
+    }
+}
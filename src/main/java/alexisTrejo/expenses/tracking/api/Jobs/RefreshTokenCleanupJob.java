@@ -0,0 +1,31 @@
+package alexisTrejo.expenses.tracking.api.Jobs;
+
+import alexisTrejo.expenses.tracking.api.Service.DomainService.RefreshTokenDomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes expired refresh tokens, rotated ones included, so refresh_tokens only holds tokens
+ * that can still be used or caught as reused.
+ */
+@Slf4j
+@Component
+public class RefreshTokenCleanupJob {
+
+    private final RefreshTokenDomainService refreshTokenDomainService;
+
+    @Autowired
+    public RefreshTokenCleanupJob(RefreshTokenDomainService refreshTokenDomainService) {
+        this.refreshTokenDomainService = refreshTokenDomainService;
+    }
+
+    @Scheduled(cron = "${expenses.auth.refresh-token-cleanup-cron:0 15 * * * *}")
+    public void purgeExpiredRefreshTokens() {
+        int purged = refreshTokenDomainService.purgeExpired();
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+}
@@ -11,6 +11,8 @@ public interface ExpenseMapper {
 
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "updatedAt", expression = "java(java.time.LocalDateTime.now())")
+    // Left to Hibernate: a new row must start unversioned
+    @Mapping(target = "version", ignore = true)
     Expense insertDtoToEntity(ExpenseInsertDTO expenseInsertDTO);
 
     @Mapping(target = "approvedById", source = "approvedBy.id")
@@ -12,6 +12,8 @@ public interface ReimbursementMapper {
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "updatedAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "reimbursementDate", source = "reimbursementDate")
+    // Left to Hibernate: a new row must start unversioned
+    @Mapping(target = "version", ignore = true)
     Reimbursement insertDtoToEntity(ReimbursementInsertDTO expenseInsertDTO);
 
     @Mapping(target = "processedBy", source = "processedBy.id")
@@ -0,0 +1,32 @@
+package alexisTrejo.expenses.tracking.api.Middleware;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Principal the JWT filter publishes for a verified token, so controllers read the caller
+ * from the security context instead of parsing the token again.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements Principal {
+
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+    private final Instant expiresAt;
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    // Same name the plain email principal used to have
+    @Override
+    public String getName() {
+        return email;
+    }
+}
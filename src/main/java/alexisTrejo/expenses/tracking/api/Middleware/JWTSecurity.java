@@ -1,6 +1,9 @@
 package alexisTrejo.expenses.tracking.api.Middleware;
 
 import alexisTrejo.expenses.tracking.api.Utils.Result;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,10 +11,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -23,19 +26,45 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * Verifies the bearer token once per request and publishes an {@link AuthenticatedUser} in the
+ * security context. The parser is built once, and tokens already verified are remembered by
+ * their SHA-256 digest until they expire, so repeat requests skip the HMAC check and JSON parse.
+ */
 @Component
 public class JWTSecurity extends OncePerRequestFilter {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final long ACCESS_TOKEN_VALIDITY_MS = 3600000; // 1 hour
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, AuthenticatedUser> verifiedTokens;
     private final UserDetailsService userDetailsService; // Inject UserDetailsService
 
     @Autowired
-    public JWTSecurity(@Value("${jwt.secret.key}") String secretKey, UserDetailsService userDetailsService) {
+    public JWTSecurity(@Value("${jwt.secret.key}") String secretKey,
+                       @Value("${jwt.verified-token-cache.maximum-size:10000}") long verifiedTokenCacheSize,
+                       UserDetailsService userDetailsService) {
         this.secretKey = new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpires())
+                .build();
         this.userDetailsService = userDetailsService; // Initialize userDetailsService
     }
 
@@ -44,20 +73,16 @@ public class JWTSecurity extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = extractToken(request);
 
-        if (token != null && validateToken(token).isSuccess()) {
-            Result<Claims> claimsResult = validateToken(token);
-            if (claimsResult.isSuccess()) {
-                Claims claims = claimsResult.getData();
-                String email = claims.getSubject();
-                List<String> roles = getRoles(claims);
-
-                List<GrantedAuthority> authorities = roles.stream()
+        if (token != null) {
+            Result<AuthenticatedUser> userResult = authenticate(token);
+            if (userResult.isSuccess()) {
+                AuthenticatedUser user = userResult.getData();
+                List<GrantedAuthority> authorities = user.getRoles().stream()
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, authorities);
+                        new UsernamePasswordAuthenticationToken(user, null, authorities);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
@@ -78,11 +103,11 @@ public class JWTSecurity extends OncePerRequestFilter {
     public String generateToken(Long userId, String email, String role) {
         Claims claims = Jwts.claims().setSubject(email); // Use email as subject
         String roleWithPrefix = "ROLE_" + role;
-        claims.put("roles", List.of(roleWithPrefix));
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(ROLES_CLAIM, List.of(roleWithPrefix));
 
         Date now = new Date();
-        long validityDuration = 3600000; // 1 hour
-        Date validity = new Date(now.getTime() + validityDuration);
+        Date validity = new Date(now.getTime() + ACCESS_TOKEN_VALIDITY_MS);
 
         return Jwts.builder()
                 .setClaims(claims)
@@ -92,11 +117,44 @@ public class JWTSecurity extends OncePerRequestFilter {
                 .compact();
     }
 
+    public long getAccessTokenValiditySeconds() {
+        return ACCESS_TOKEN_VALIDITY_MS / 1000;
+    }
+
+    /**
+     * Verifies the token, or finds it among the tokens verified before. Only valid tokens are
+     * remembered, and each only until its own expiration.
+     */
+    public Result<AuthenticatedUser> authenticate(String token) {
+        String digest = digest(token);
+        AuthenticatedUser cachedUser = verifiedTokens.getIfPresent(digest);
+        if (cachedUser != null) {
+            return Result.success(cachedUser);
+        }
+
+        Result<Claims> claimsResult = validateToken(token);
+        if (!claimsResult.isSuccess()) {
+            return Result.error(claimsResult.getErrorMessage());
+        }
+
+        Claims claims = claimsResult.getData();
+        if (claims.getExpiration() == null) {
+            return Result.error("Token has no expiration");
+        }
+
+        AuthenticatedUser user = new AuthenticatedUser(
+                getUserId(claims),
+                claims.getSubject(),
+                List.copyOf(getRoles(claims)),
+                claims.getExpiration().toInstant()
+        );
+        verifiedTokens.put(digest, user);
+        return Result.success(user);
+    }
+
     public Result<Claims> validateToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
+            Claims claims = jwtParser
                     .parseClaimsJws(token)
                     .getBody();
             return Result.success(claims);
@@ -109,43 +167,74 @@ public class JWTSecurity extends OncePerRequestFilter {
         }
     }
 
+    // Tokens issued before the user id claim was added carry none
     public Long getUserId(Claims claims) {
-        return Long.parseLong(claims.getSubject()); // You may need to adjust this if the subject is email
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId != null ? userId.longValue() : null;
     }
 
     @SuppressWarnings("unchecked")
     public List<String> getRoles(Claims claims) {
-        return (List<String>) claims.get("roles");
+        List<String> roles = (List<String>) claims.get(ROLES_CLAIM);
+        return roles != null ? roles : List.of();
     }
 
-    public Result<Claims> getClaimsFromToken(HttpServletRequest request) {
-        String header = request.getHeader("Authorization");
-        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
-            String token = header.substring(7); // Remove "Bearer " prefix
-
-            Result<Claims> claimsResult = validateToken(token);
-            if (!claimsResult.isSuccess()) {
-                return Result.error(claimsResult.getErrorMessage());
-            }
-
-            return Result.success(claimsResult.getData());
+    /**
+     * The caller the filter authenticated for this request; the token is not parsed again.
+     */
+    public Result<AuthenticatedUser> getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Result.success(user);
         }
-        return Result.error("Invalid Header Format");
+        return Result.error("Missing Or Invalid Token");
     }
 
     public Result<Long> getUserIdFromToken(HttpServletRequest request) {
-        Result<Claims> claimsResult = getClaimsFromToken(request);
-        if (!claimsResult.isSuccess()) {
-            return Result.error(claimsResult.getErrorMessage());
+        Result<AuthenticatedUser> userResult = getAuthenticatedUser();
+        if (!userResult.isSuccess()) {
+            return Result.error(userResult.getErrorMessage());
         }
-        return Result.success(getUserId(claimsResult.getData()));
+        if (userResult.getData().getUserId() == null) {
+            return Result.error("Token Has No User Id, Please Log In Again");
+        }
+        return Result.success(userResult.getData().getUserId());
     }
 
     public Result<List<String>> getRolesFromToken(HttpServletRequest request) {
-        Result<Claims> claimsResult = getClaimsFromToken(request);
-        if (!claimsResult.isSuccess()) {
-            return Result.error(claimsResult.getErrorMessage());
+        Result<AuthenticatedUser> userResult = getAuthenticatedUser();
+        if (!userResult.isSuccess()) {
+            return Result.error(userResult.getErrorMessage());
+        }
+        return Result.success(userResult.getData().getRoles());
+    }
+
+    // Keyed by digest so the cache never holds usable bearer tokens
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, AuthenticatedUser> {
+
+        @Override
+        public long expireAfterCreate(String digest, AuthenticatedUser user, long currentTime) {
+            long millisLeft = user.getExpiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millisLeft));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, AuthenticatedUser user, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, user, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, AuthenticatedUser user, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return Result.success(getRoles(claimsResult.getData()));
     }
 }
@@ -0,0 +1,22 @@
+package alexisTrejo.expenses.tracking.api.Middleware;
+
+import alexisTrejo.expenses.tracking.api.Utils.ResponseWrapper;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * A save that lost against a concurrent change of the same expense or reimbursement (its
+ * @Version no longer matches) is answered with 409 so the client can reload and retry.
+ */
+@RestControllerAdvice
+public class OptimisticLockingExceptionHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ResponseWrapper<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ResponseWrapper.error("The Resource Was Modified By Another Request, Reload It And Try Again", HttpStatus.CONFLICT.value()));
+    }
+}
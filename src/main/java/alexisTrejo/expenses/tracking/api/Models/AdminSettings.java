@@ -13,7 +13,8 @@ import java.util.List;
 public class AdminSettings {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_settings_seq")
+    @SequenceGenerator(name = "admin_settings_seq", sequenceName = "admin_settings_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -4,6 +4,8 @@ import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,14 +13,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(name = "Expense.withAttachments", attributeNodes = @NamedAttributeNode("expenseAttachments"))
 @NoArgsConstructor
 @Getter
 @Setter
+// The keyset listings seek on (created_at, id) within a user or a status through partial
+// indexes over live rows, which JPA cannot declare; see db/expense-archive.sql
 @Table(name = "expenses")
 public class Expense {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenses_seq")
+    @SequenceGenerator(name = "expenses_seq", sequenceName = "expenses_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,11 +55,14 @@ public class Expense {
     @JoinColumn(name = "approved_by")
     private User approvedBy;  // Manager who approved the expense
 
-    @OneToOne(fetch = FetchType.LAZY)
+    // Mapped as many-to-one so Hibernate does not add a UNIQUE(reimbursement_id), which the partitioned table cannot hold
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reimbursement_id")
     private Reimbursement reimbursement;
 
+    // When several expenses are mapped at once (e.g. reimbursement pages) their attachments are loaded in one IN query
     @OneToMany(mappedBy = "expense", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<ExpenseAttachment> expenseAttachments;
 
     @Column
@@ -67,6 +76,12 @@ public class Expense {
 
     private LocalDateTime deletedAt;
 
+    // Default 0 so existing rows and the JDBC bulk inserts start with a version
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public void setUserId(Long userId) {
         this.user = new User(userId);
     }
@@ -80,6 +95,12 @@ public class Expense {
         this.rejectionReason = rejectionReason;
     }
 
+    public void setAsReimbursed(Reimbursement reimbursement) {
+        this.status = ExpenseStatus.REIMBURSED;
+        this.reimbursement = reimbursement;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void addAttachment(ExpenseAttachment expenseAttachment) {
         if (this.expenseAttachments == null) {
             this.expenseAttachments = new ArrayList<>();
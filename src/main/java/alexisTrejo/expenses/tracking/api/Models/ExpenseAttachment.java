@@ -12,11 +12,14 @@ import java.time.LocalDateTime;
 public class ExpenseAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_attachment_seq")
+    @SequenceGenerator(name = "expense_attachment_seq", sequenceName = "expense_attachment_seq", allocationSize = 50)
     private Long id;
 
+    // No database FK, a partitioned expenses keyed on (id, created_at) cannot take one; triggers
+    // enforce it instead, see ExpensePartitionRepository.installReferenceTriggers
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "expense_id", nullable = false)
+    @JoinColumn(name = "expense_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Expense expense;
 
     @Column(nullable = false)
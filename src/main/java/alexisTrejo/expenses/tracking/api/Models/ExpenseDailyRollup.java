@@ -0,0 +1,28 @@
+package alexisTrejo.expenses.tracking.api.Models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pre-aggregated count and amount of expenses per (creation day, status, category).
+ * Maintained in the same transaction as every expense write, so date range summaries
+ * read at most one row per day/status/category instead of scanning the expenses table.
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+@Table(name = "expense_daily_rollups")
+public class ExpenseDailyRollup {
+
+    @EmbeddedId
+    private ExpenseDailyRollupId id;
+
+    @Column(nullable = false)
+    private Long expenseCount;
+
+    @Column(nullable = false)
+    private Double totalAmount;
+}
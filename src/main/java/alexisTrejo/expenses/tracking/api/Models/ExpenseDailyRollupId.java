@@ -0,0 +1,32 @@
+package alexisTrejo.expenses.tracking.api.Models;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseDailyRollupId implements Serializable {
+
+    @Column(nullable = false)
+    private LocalDate rollupDay;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExpenseStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExpenseCategory category;
+}
@@ -3,6 +3,7 @@ package alexisTrejo.expenses.tracking.api.Models;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,11 +14,14 @@ import java.time.LocalDateTime;
 public class Reimbursement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reimbursement_seq")
+    @SequenceGenerator(name = "reimbursement_seq", sequenceName = "reimbursement_seq", allocationSize = 50)
     private Long id;
 
+    // No database FK, a partitioned expenses keyed on (id, created_at) cannot take one; triggers
+    // enforce it instead, see ExpensePartitionRepository.installReferenceTriggers
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "expense_id")
+    @JoinColumn(name = "expense_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Expense expense;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,4 +37,9 @@ public class Reimbursement {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
 }
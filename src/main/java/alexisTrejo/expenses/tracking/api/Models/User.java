@@ -15,7 +15,8 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -60,6 +61,6 @@ public class User {
     }
 
     public void updateLastLogin() {
-        this.updatedAt = LocalDateTime.now();
+        this.lastLogin = LocalDateTime.now();
     }
 }
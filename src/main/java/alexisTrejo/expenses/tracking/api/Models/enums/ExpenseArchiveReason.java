@@ -0,0 +1,8 @@
+package alexisTrejo.expenses.tracking.api.Models.enums;
+
+public enum ExpenseArchiveReason {
+    DELETED,
+    REIMBURSED,
+    // Any expense in a monthly partition older than expenses.partitioning.retention-months
+    RETENTION
+}
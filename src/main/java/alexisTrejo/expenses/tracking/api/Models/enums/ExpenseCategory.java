@@ -1,11 +1,19 @@
 package alexisTrejo.expenses.tracking.api.Models.enums;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 public enum ExpenseCategory {
     TRAVEL,
     FOOD,
     OFFICE_SUPPLIES,
     SOFTWARE_LICENSES,
     ENTERTAINMENT,
-    MISCELLANEOUS
-}
+    MISCELLANEOUS;
 
+    public static Optional<ExpenseCategory> findCategory(String name) {
+        return Arrays.stream(ExpenseCategory.values())
+                .filter(category -> category.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
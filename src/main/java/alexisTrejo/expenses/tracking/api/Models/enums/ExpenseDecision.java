@@ -0,0 +1,10 @@
+package alexisTrejo.expenses.tracking.api.Models.enums;
+
+public enum ExpenseDecision {
+    APPROVE,
+    REJECT;
+
+    public ExpenseStatus targetStatus() {
+        return this == APPROVE ? ExpenseStatus.APPROVED : ExpenseStatus.REJECTED;
+    }
+}
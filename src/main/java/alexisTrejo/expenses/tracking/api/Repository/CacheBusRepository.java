@@ -0,0 +1,26 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Publishes cache bus messages with pg_notify. Called inside a transaction the notification is
+ * only delivered if, and once, that transaction commits.
+ */
+@Repository
+public class CacheBusRepository {
+
+    public static final String CHANNEL = "expense_cache_bus";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public CacheBusRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void notify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+}
@@ -0,0 +1,149 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ArchivedExpenseDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseArchiveReason;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves cold expenses into expenses_archive (see db/expense-archive.sql) and reads them back.
+ */
+@Repository
+public class ExpenseArchiveRepository {
+
+    // One statement per chunk: the candidates are locked, deleted together with their attachments
+    // and reimbursement, and the returned rows are inserted into the archive. Rows locked by a
+    // running request are skipped and picked up by the next run.
+    private static final String ARCHIVE_CHUNK_SQL = """
+            WITH candidates AS (
+                SELECT id, created_at
+                FROM expenses
+                WHERE (deleted_at IS NOT NULL AND deleted_at < ?)
+                   OR (status = 'REIMBURSED' AND deleted_at IS NULL AND updated_at < ?)
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM expenses e
+                USING candidates c
+                WHERE e.id = c.id AND e.created_at = c.created_at
+                RETURNING e.*
+            ), moved_attachments AS (
+                DELETE FROM expense_attachment a
+                USING moved m
+                WHERE a.expense_id = m.id
+                RETURNING a.expense_id, a.attachment_url
+            ), moved_reimbursements AS (
+                DELETE FROM reimbursement r
+                USING moved m
+                WHERE r.expense_id = m.id
+                RETURNING r.expense_id, r.processed_by, r.reimbursement_date
+            )
+            INSERT INTO expenses_archive (id, user_id, amount, category, description, date, receipt_url, status,
+                                          approved_by, rejection_reason, created_at, updated_at, deleted_at,
+                                          reimbursement_id, reimbursement_processed_by, reimbursement_date,
+                                          attachment_urls, archive_reason)
+            SELECT m.id, m.user_id, m.amount, m.category, m.description, m.date, m.receipt_url, m.status,
+                   m.approved_by, m.rejection_reason, m.created_at, m.updated_at, m.deleted_at,
+                   m.reimbursement_id, r.processed_by, r.reimbursement_date,
+                   (SELECT array_agg(a.attachment_url) FROM moved_attachments a WHERE a.expense_id = m.id),
+                   CASE WHEN m.deleted_at IS NOT NULL THEN 'DELETED' ELSE 'REIMBURSED' END
+            FROM moved m
+            LEFT JOIN moved_reimbursements r ON r.expense_id = m.id
+            """;
+
+    // Folds a detached partition into the archive the same way; its table name is built from a YearMonth
+    private static final String ARCHIVE_TABLE_SQL = """
+            INSERT INTO expenses_archive (id, user_id, amount, category, description, date, receipt_url, status,
+                                          approved_by, rejection_reason, created_at, updated_at, deleted_at,
+                                          reimbursement_id, reimbursement_processed_by, reimbursement_date,
+                                          attachment_urls, archive_reason)
+            SELECT p.id, p.user_id, p.amount, p.category, p.description, p.date, p.receipt_url, p.status,
+                   p.approved_by, p.rejection_reason, p.created_at, p.updated_at, p.deleted_at,
+                   p.reimbursement_id, r.processed_by, r.reimbursement_date,
+                   (SELECT array_agg(a.attachment_url) FROM expense_attachment a WHERE a.expense_id = p.id),
+                   CASE WHEN p.deleted_at IS NOT NULL THEN 'DELETED' ELSE 'RETENTION' END
+            FROM %s p
+            LEFT JOIN reimbursement r ON r.expense_id = p.id
+            """;
+
+    private static final String SELECT_ARCHIVED_SQL = """
+            SELECT id, user_id, amount, category, description, date, receipt_url, status, approved_by,
+                   rejection_reason, created_at, deleted_at, reimbursement_id, reimbursement_processed_by,
+                   reimbursement_date, attachment_urls, archive_reason, archived_at
+            FROM expenses_archive""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ExpenseArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int archiveChunk(LocalDateTime deletedBefore, LocalDateTime reimbursedBefore, int chunkSize) {
+        return jdbcTemplate.update(ARCHIVE_CHUNK_SQL, Timestamp.valueOf(deletedBefore), Timestamp.valueOf(reimbursedBefore), chunkSize);
+    }
+
+    public int archiveTable(String tableName) {
+        return jdbcTemplate.update(ARCHIVE_TABLE_SQL.formatted(tableName));
+    }
+
+    /**
+     * Removes the attachments and reimbursements of archived expenses created in the range; their
+     * urls and reimbursement already live in the archive rows. Must run once the source table is
+     * gone, its foreign key on reimbursement_id would refuse the delete otherwise.
+     */
+    public void deleteArchivedChildren(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        jdbcTemplate.update("DELETE FROM expense_attachment a USING expenses_archive x "
+                + "WHERE a.expense_id = x.id AND x.created_at >= ? AND x.created_at < ?", Timestamp.valueOf(createdFrom), Timestamp.valueOf(createdTo));
+        jdbcTemplate.update("DELETE FROM reimbursement r USING expenses_archive x "
+                + "WHERE r.expense_id = x.id AND x.created_at >= ? AND x.created_at < ?", Timestamp.valueOf(createdFrom), Timestamp.valueOf(createdTo));
+    }
+
+    public Optional<ArchivedExpenseDTO> findById(Long id) {
+        return jdbcTemplate.query(SELECT_ARCHIVED_SQL + " WHERE id = ?", (rs, rowNum) -> mapArchivedExpense(rs), id)
+                .stream()
+                .findFirst();
+    }
+
+    public List<ArchivedExpenseDTO> findPage(Long userId, int limit, long offset) {
+        if (userId == null) {
+            return jdbcTemplate.query(SELECT_ARCHIVED_SQL + " ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?",
+                    (rs, rowNum) -> mapArchivedExpense(rs), limit, offset);
+        }
+        return jdbcTemplate.query(SELECT_ARCHIVED_SQL + " WHERE user_id = ? ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?",
+                (rs, rowNum) -> mapArchivedExpense(rs), userId, limit, offset);
+    }
+
+    public long count(Long userId) {
+        Long count = userId == null
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM expenses_archive", Long.class)
+                : jdbcTemplate.queryForObject("SELECT COUNT(*) FROM expenses_archive WHERE user_id = ?", Long.class, userId);
+        return count != null ? count : 0;
+    }
+
+    private static ArchivedExpenseDTO mapArchivedExpense(ResultSet rs) throws SQLException {
+        ArchivedExpenseDTO archivedExpense = new ArchivedExpenseDTO();
+        archivedExpense.setExpense(ExpenseJdbcRepository.mapListItem(rs));
+        archivedExpense.setDeletedAt(rs.getObject("deleted_at", LocalDateTime.class));
+        archivedExpense.setReimbursementId(rs.getObject("reimbursement_id", Long.class));
+        archivedExpense.setReimbursementProcessedById(rs.getObject("reimbursement_processed_by", Long.class));
+        archivedExpense.setReimbursementDate(rs.getObject("reimbursement_date", LocalDate.class));
+        Array attachmentUrls = rs.getArray("attachment_urls");
+        archivedExpense.setAttachmentUrls(attachmentUrls != null ? Arrays.asList((String[]) attachmentUrls.getArray()) : List.of());
+        archivedExpense.setArchiveReason(ExpenseArchiveReason.valueOf(rs.getString("archive_reason")));
+        archivedExpense.setArchivedAt(rs.getObject("archived_at", LocalDateTime.class));
+        return archivedExpense;
+    }
+}
@@ -0,0 +1,86 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import alexisTrejo.expenses.tracking.api.Models.ExpenseDailyRollup;
+import alexisTrejo.expenses.tracking.api.Models.ExpenseDailyRollupId;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ExpenseDailyRollupRepository extends JpaRepository<ExpenseDailyRollup, ExpenseDailyRollupId> {
+
+    // Delta writers share this transaction lock and a rebuild takes it exclusively, so a rebuild
+    // never overlaps a delta that is not committed yet
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(hashtext('expense_daily_rollups'))) l", nativeQuery = true)
+    long lockForDelta();
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('expense_daily_rollups'))) l", nativeQuery = true)
+    long lockForRebuild();
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM expense_daily_rollups)", nativeQuery = true)
+    boolean hasRollups();
+
+    @Modifying
+    @Query(value = "INSERT INTO expense_daily_rollups (rollup_day, status, category, expense_count, total_amount) "
+            + "VALUES (:rollupDay, :status, :category, :countDelta, :amountDelta) "
+            + "ON CONFLICT (rollup_day, status, category) DO UPDATE SET "
+            + "expense_count = expense_daily_rollups.expense_count + EXCLUDED.expense_count, "
+            + "total_amount = expense_daily_rollups.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    void applyDelta(@Param("rollupDay") LocalDate rollupDay,
+                    @Param("status") String status,
+                    @Param("category") String category,
+                    @Param("countDelta") long countDelta,
+                    @Param("amountDelta") double amountDelta);
+
+    @Query("SELECT new alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow(r.id.status, SUM(r.expenseCount), SUM(r.totalAmount)) " +
+            "FROM ExpenseDailyRollup r " +
+            "WHERE r.id.rollupDay BETWEEN :startDay AND :endDay " +
+            "GROUP BY r.id.status")
+    List<ExpenseSummaryRow> getSummaryGroupedByStatus(@Param("startDay") LocalDate startDay,
+                                                      @Param("endDay") LocalDate endDay);
+
+    @Query("SELECT new alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow(r.id.category, r.id.status, SUM(r.expenseCount), SUM(r.totalAmount)) " +
+            "FROM ExpenseDailyRollup r " +
+            "WHERE r.id.rollupDay BETWEEN :startDay AND :endDay " +
+            "GROUP BY r.id.category, r.id.status")
+    List<ExpenseSummaryRow> getSummaryGroupedByCategoryAndStatus(@Param("startDay") LocalDate startDay,
+                                                                 @Param("endDay") LocalDate endDay);
+
+    // All-time totals per status; the rollups already count like the status counters do
+    @Query(value = "SELECT status, SUM(expense_count) FROM expense_daily_rollups GROUP BY status", nativeQuery = true)
+    List<Object[]> countByStatus();
+
+    @Modifying
+    @Query(value = "DELETE FROM expense_daily_rollups WHERE rollup_day BETWEEN :startDay AND :endDay", nativeQuery = true)
+    int deleteByDayRange(@Param("startDay") LocalDate startDay, @Param("endDay") LocalDate endDay);
+
+    // Archived expenses still count (reimbursed or past partition retention); archived deleted ones never did
+    @Modifying
+    @Query(value = "INSERT INTO expense_daily_rollups (rollup_day, status, category, expense_count, total_amount) "
+            + "SELECT CAST(e.created_at AS date), e.status, e.category, COUNT(*), SUM(e.amount) "
+            + "FROM ("
+            + "SELECT created_at, status, category, amount FROM expenses "
+            + "WHERE deleted_at IS NULL AND created_at >= :startDate AND created_at < :endDate "
+            + "UNION ALL "
+            + "SELECT created_at, status, category, amount FROM expenses_archive "
+            + "WHERE deleted_at IS NULL AND created_at >= :startDate AND created_at < :endDate"
+            + ") e "
+            + "GROUP BY CAST(e.created_at AS date), e.status, e.category", nativeQuery = true)
+    int insertFromExpenses(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO expense_daily_rollups (rollup_day, status, category, expense_count, total_amount) "
+            + "SELECT CAST(e.created_at AS date), e.status, e.category, COUNT(*), SUM(e.amount) "
+            + "FROM ("
+            + "SELECT created_at, status, category, amount FROM expenses WHERE deleted_at IS NULL "
+            + "UNION ALL "
+            + "SELECT created_at, status, category, amount FROM expenses_archive WHERE deleted_at IS NULL"
+            + ") e "
+            + "GROUP BY CAST(e.created_at AS date), e.status, e.category", nativeQuery = true)
+    int insertAllFromExpenses();
+}
@@ -0,0 +1,275 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseSearchHitDTO;
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Analytics.ExpenseColumnStore;
+import alexisTrejo.expenses.tracking.api.Utils.Decision.DecidedExpenseRow;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseSearchCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC writes for bulk paths that don't need managed entities. Ids are drawn from the
+ * same expenses_seq sequence Hibernate allocates from, in the same pooled-lo blocks.
+ */
+@Repository
+public class ExpenseJdbcRepository {
+
+    private static final String INSERT_EXPENSE_SQL = """
+            INSERT INTO expenses (id, user_id, amount, category, description, date, receipt_url, status, rejection_reason, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // Same block size as the pooled-lo @SequenceGenerator on Expense: each value drawn reserves [value, value + 49]
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final String NEXT_ID_BLOCKS_SQL = "SELECT nextval('expenses_seq') FROM generate_series(1, ?)";
+
+    private static final String EXPORT_EXPENSES_SQL = """
+            SELECT id, user_id, amount, category, description, date, receipt_url, status, approved_by, rejection_reason
+            FROM expenses
+            WHERE deleted_at IS NULL""";
+
+    // description_tsv is a generated column with a GIN index, see db/expense-search.sql
+    private static final String SEARCH_EXPENSES_SQL = """
+            SELECT e.id, e.user_id, e.amount, e.category, e.description, e.date, e.receipt_url, e.status,
+                   e.approved_by, e.rejection_reason, e.created_at, ts_rank(e.description_tsv, q.query) AS rank
+            FROM expenses e, to_tsquery('english', ?) AS q(query)
+            WHERE e.description_tsv @@ q.query
+              AND e.deleted_at IS NULL""";
+
+    // Live expenses plus archived ones not deleted, which still count in the totals (as in the rollups)
+    private static final String ANALYTICS_COLUMNS_SQL = """
+            SELECT id, user_id, CAST(created_at AS date) - DATE '1970-01-01' AS epoch_day, status, category,
+                   CAST(ROUND(CAST(amount AS numeric) * 100) AS bigint) AS amount_cents
+            FROM expenses
+            WHERE deleted_at IS NULL
+            UNION ALL
+            SELECT id, user_id, CAST(created_at AS date) - DATE '1970-01-01', status, category,
+                   CAST(ROUND(CAST(amount AS numeric) * 100) AS bigint)
+            FROM expenses_archive
+            WHERE deleted_at IS NULL""";
+
+    // Conditional transitions for one or many ids: only rows still PENDING change, so concurrent
+    // deciders can't both win. They bump the @Version column so a stale copy of the row held
+    // elsewhere fails on save. The returned columns feed DecidedExpenseRow.
+    private static final String APPROVE_PENDING_SQL = """
+            UPDATE expenses SET status = 'APPROVED', approved_by = ?, updated_at = ?, version = version + 1
+            WHERE id = ANY (?) AND status = 'PENDING' AND deleted_at IS NULL
+            RETURNING id, user_id, amount, category, date, created_at""";
+
+    private static final String REJECT_PENDING_SQL = """
+            UPDATE expenses SET status = 'REJECTED', rejection_reason = ?, updated_at = ?, version = version + 1
+            WHERE id = ANY (?) AND status = 'PENDING' AND deleted_at IS NULL
+            RETURNING id, user_id, amount, category, date, created_at""";
+
+    private static final RowMapper<DecidedExpenseRow> DECIDED_ROW_MAPPER = (rs, rowNum) -> new DecidedExpenseRow(
+            rs.getLong("id"),
+            rs.getObject("user_id", Long.class),
+            rs.getDouble("amount"),
+            ExpenseCategory.valueOf(rs.getString("category")),
+            rs.getObject("date", LocalDate.class),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ExpenseJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams the matching expenses in id order through a forward-only cursor, handing each row to
+     * the consumer as it is read. Postgres only honours the fetch size inside a transaction, so
+     * callers must run this in one, otherwise the driver buffers the whole result set.
+     */
+    public void streamForExport(ExpenseExportFilter filter, int fetchSize, Consumer<ExpenseDTO> rowConsumer) {
+        StringBuilder sql = new StringBuilder(EXPORT_EXPENSES_SQL);
+        List<Object> params = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = ?");
+            params.add(filter.getStatus().name());
+        }
+        if (filter.getCategory() != null) {
+            sql.append(" AND category = ?");
+            params.add(filter.getCategory().name());
+        }
+        if (filter.getStartDate() != null) {
+            sql.append(" AND date >= ?");
+            params.add(filter.getStartDate());
+        }
+        if (filter.getEndDate() != null) {
+            sql.append(" AND date <= ?");
+            params.add(filter.getEndDate());
+        }
+        sql.append(" ORDER BY id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> rowConsumer.accept(mapExportRow(rs)));
+    }
+
+    /**
+     * Streams the analytics columns of every counted expense into the store. Like
+     * {@link #streamForExport} it needs a surrounding transaction for the fetch size to apply.
+     */
+    public void loadAnalyticsColumns(ExpenseColumnStore store, int fetchSize) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ANALYTICS_COLUMNS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> store.upsert(
+                rs.getLong("id"),
+                rs.getObject("user_id", Long.class),
+                rs.getInt("epoch_day"),
+                ExpenseStatus.valueOf(rs.getString("status")),
+                ExpenseCategory.valueOf(rs.getString("category")),
+                rs.getLong("amount_cents")));
+    }
+
+    /**
+     * Full-text search over the descriptions, most relevant first. The rank is recomputed only
+     * for the rows the GIN index matches, and paging resumes after the (rank, id) of the cursor.
+     */
+    public List<ExpenseSearchHitDTO> searchByDescription(String tsQuery, ExpenseStatus status, Long userId, ExpenseSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_EXPENSES_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(tsQuery);
+        if (status != null) {
+            sql.append(" AND e.status = ?");
+            params.add(status.name());
+        }
+        if (userId != null) {
+            sql.append(" AND e.user_id = ?");
+            params.add(userId);
+        }
+        if (after != null) {
+            sql.append(" AND (ts_rank(e.description_tsv, q.query), e.id) < (CAST(? AS real), ?)");
+            params.add(after.getRank());
+            params.add(after.getId());
+        }
+        sql.append(" ORDER BY rank DESC, e.id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new ExpenseSearchHitDTO(mapListItem(rs), rs.getFloat("rank")), params.toArray());
+    }
+
+    /**
+     * Returns the Postgres plan of a statement Hibernate generated, with the values it was run
+     * with bound to its placeholders in order.
+     */
+    public List<String> explain(String sql, List<Object> params) {
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        if (placeholders != params.size()) {
+            throw new IllegalStateException("Statement has " + placeholders + " placeholders but " + params.size() + " values were given: " + sql);
+        }
+
+        Object[] values = params.stream()
+                .map(value -> value instanceof Enum<?> enumValue ? enumValue.name() : value)
+                .toArray();
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, values);
+    }
+
+    public List<DecidedExpenseRow> approvePendingByIds(Collection<Long> ids, Long managerId, LocalDateTime now) {
+        return jdbcTemplate.query(APPROVE_PENDING_SQL, DECIDED_ROW_MAPPER, managerId, Timestamp.valueOf(now), ids.toArray(new Long[0]));
+    }
+
+    public List<DecidedExpenseRow> rejectPendingByIds(Collection<Long> ids, String rejectionReason, LocalDateTime now) {
+        return jdbcTemplate.query(REJECT_PENDING_SQL, DECIDED_ROW_MAPPER, rejectionReason, Timestamp.valueOf(now), ids.toArray(new Long[0]));
+    }
+
+    /**
+     * Inserts the expenses as a single JDBC batch and returns how many rows were written. The ids
+     * are allocated up front and set on the entities, so callers can hand them on right away.
+     */
+    public int insertAll(List<Expense> expenses) {
+        assignIds(expenses);
+
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_EXPENSE_SQL, expenses, expenses.size(), (ps, expense) -> {
+            ps.setLong(1, expense.getId());
+            ps.setLong(2, expense.getUser().getId());
+            ps.setDouble(3, expense.getAmount());
+            ps.setString(4, expense.getCategory().name());
+            ps.setString(5, expense.getDescription());
+            ps.setDate(6, Date.valueOf(expense.getDate()));
+            ps.setString(7, expense.getReceiptUrl());
+            ps.setString(8, expense.getStatus().name());
+            ps.setString(9, expense.getRejectionReason());
+            ps.setTimestamp(10, Timestamp.valueOf(expense.getCreatedAt()));
+            ps.setTimestamp(11, Timestamp.valueOf(expense.getUpdatedAt()));
+        });
+
+        // The driver may report SUCCESS_NO_INFO (-2) for batched statements, count those as written
+        int inserted = 0;
+        for (int[] batchCounts : updateCounts) {
+            for (int count : batchCounts) {
+                inserted += count < 0 ? 1 : count;
+            }
+        }
+        return inserted;
+    }
+
+    // One nextval per block of 50 rows, so a 1000 row batch costs a single round trip for 20 values
+    private void assignIds(List<Expense> expenses) {
+        int blocks = (expenses.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks);
+        for (int i = 0; i < expenses.size(); i++) {
+            expenses.get(i).setId(blockStarts.get(i / ID_BLOCK_SIZE) + i % ID_BLOCK_SIZE);
+        }
+    }
+
+    private ExpenseDTO mapExportRow(ResultSet rs) throws SQLException {
+        ExpenseDTO expense = new ExpenseDTO();
+        expense.setId(rs.getLong("id"));
+        expense.setUserId(rs.getObject("user_id", Long.class));
+        expense.setAmount(rs.getDouble("amount"));
+        expense.setCategory(ExpenseCategory.valueOf(rs.getString("category")));
+        expense.setDescription(rs.getString("description"));
+        expense.setDate(rs.getObject("date", LocalDate.class));
+        expense.setReceiptUrl(rs.getString("receipt_url"));
+        expense.setStatus(ExpenseStatus.valueOf(rs.getString("status")));
+        expense.setApprovedById(rs.getObject("approved_by", Long.class));
+        expense.setRejectionReason(rs.getString("rejection_reason"));
+        return expense;
+    }
+
+    static ExpenseListItemDTO mapListItem(ResultSet rs) throws SQLException {
+        return new ExpenseListItemDTO(
+                rs.getLong("id"),
+                rs.getObject("user_id", Long.class),
+                rs.getDouble("amount"),
+                ExpenseCategory.valueOf(rs.getString("category")),
+                rs.getString("description"),
+                rs.getObject("date", LocalDate.class),
+                rs.getString("receipt_url"),
+                ExpenseStatus.valueOf(rs.getString("status")),
+                rs.getObject("approved_by", Long.class),
+                rs.getString("rejection_reason"),
+                rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+}
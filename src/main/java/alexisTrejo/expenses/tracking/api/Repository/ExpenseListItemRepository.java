@@ -0,0 +1,17 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification queries that select only the {@link ExpenseListItemDTO} columns, for listings
+ * whose predicates are built at runtime and so cannot use a JPQL constructor expression.
+ */
+public interface ExpenseListItemRepository {
+
+    List<ExpenseListItemDTO> findListItems(Specification<Expense> specification, Sort sort, int limit);
+}
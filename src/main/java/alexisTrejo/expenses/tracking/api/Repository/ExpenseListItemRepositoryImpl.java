@@ -0,0 +1,47 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class ExpenseListItemRepositoryImpl implements ExpenseListItemRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Same columns as ExpenseRepository.LIST_ITEM_SELECT; reading the FK ids does not join users
+    @Override
+    public List<ExpenseListItemDTO> findListItems(Specification<Expense> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseListItemDTO> query = cb.createQuery(ExpenseListItemDTO.class);
+        Root<Expense> root = query.from(Expense.class);
+
+        query.select(cb.construct(ExpenseListItemDTO.class,
+                root.get("id"),
+                root.get("user").get("id"),
+                root.get("amount"),
+                root.get("category"),
+                root.get("description"),
+                root.get("date"),
+                root.get("receiptUrl"),
+                root.get("status"),
+                root.get("approvedBy").get("id"),
+                root.get("rejectionReason"),
+                root.get("createdAt")));
+        query.where(specification.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,211 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.ExpensePartitionDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Catalog queries and DDL for the monthly range partitions of expenses. Partition names are
+ * always built from a YearMonth, never from user input, so they are safe to inline in DDL.
+ */
+@Repository
+public class ExpensePartitionRepository {
+
+    public static final String PARENT_TABLE = "expenses";
+    public static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    private static final String LEGACY_TABLE = "expenses_unpartitioned";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    // Columns pointing at expenses.id; mapped without a database FK (see ExpenseAttachment, Reimbursement)
+    private static final List<ExpenseReference> EXPENSE_REFERENCES = List.of(
+            new ExpenseReference("expense_attachment", "expense_id"),
+            new ExpenseReference("reimbursement", "expense_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ExpensePartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname
+                """, String.class, PARENT_TABLE);
+    }
+
+    public List<ExpensePartitionDTO> findPartitions() {
+        return jdbcTemplate.query("""
+                SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bounds, GREATEST(c.reltuples, 0)::bigint AS estimated_rows
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname
+                """, (rs, rowNum) -> new ExpensePartitionDTO(rs.getString("relname"), rs.getString("bounds"), rs.getLong("estimated_rows")),
+                PARENT_TABLE);
+    }
+
+    // With rows of that month already in the DEFAULT partition this fails until they are moved out
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1).atStartOfDay() + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay() + "')");
+    }
+
+    // The detached partition keeps its rows as a plain table that no scan of expenses touches any more
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName(month));
+    }
+
+    public void dropTable(String tableName) {
+        jdbcTemplate.execute("DROP TABLE " + tableName);
+    }
+
+    // Held until the conversion transaction ends, so a second admin request waits and then sees the result
+    public void lockForConversion() {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('expenses_partition_conversion'))) l", Long.class);
+    }
+
+    /**
+     * Rebuilds expenses as a table partitioned by month on created_at, keeping its columns,
+     * defaults, generated columns, CHECK constraints, secondary indexes and outgoing foreign keys.
+     * Must run inside a transaction; the old table is locked for the whole copy.
+     * <ul>
+     *     <li>the primary key becomes (id, created_at), Postgres requires the partition key in it;</li>
+     *     <li>unique indexes without created_at cannot exist on the partitioned table and are dropped;</li>
+     *     <li>foreign keys pointing at expenses cannot reference id alone for the same reason; any left
+     *     from before the mappings dropped them are removed, the triggers of
+     *     {@link #installReferenceTriggers} enforce them instead;</li>
+     *     <li>rows outside the monthly ranges go to the DEFAULT partition instead of failing the insert.</li>
+     * </ul>
+     */
+    public long convertToPartitioned(YearMonth lastMonth) {
+        jdbcTemplate.execute("LOCK TABLE " + PARENT_TABLE + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " RENAME TO " + LEGACY_TABLE);
+
+        List<String> indexDefinitions = jdbcTemplate.queryForList(
+                "SELECT pg_get_indexdef(indexrelid) FROM pg_index WHERE indrelid = to_regclass(?) AND NOT indisunique",
+                String.class, LEGACY_TABLE);
+        List<String> outgoingForeignKeys = jdbcTemplate.queryForList(
+                "SELECT 'ADD CONSTRAINT ' || quote_ident(conname) || ' ' || pg_get_constraintdef(oid) FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'f'",
+                String.class, LEGACY_TABLE);
+        List<String> incomingForeignKeys = jdbcTemplate.queryForList(
+                "SELECT 'ALTER TABLE ' || conrelid::regclass || ' DROP CONSTRAINT ' || quote_ident(conname) FROM pg_constraint WHERE confrelid = to_regclass(?) AND contype = 'f'",
+                String.class, LEGACY_TABLE);
+        String insertableColumns = jdbcTemplate.queryForObject(
+                "SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) FROM pg_attribute WHERE attrelid = to_regclass(?) AND attnum > 0 AND NOT attisdropped AND attgenerated = ''",
+                String.class, LEGACY_TABLE);
+        LocalDateTime oldestCreatedAt = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + LEGACY_TABLE, LocalDateTime.class);
+
+        for (String dropForeignKey : incomingForeignKeys) {
+            jdbcTemplate.execute(dropForeignKey);
+        }
+
+        jdbcTemplate.execute("CREATE TABLE " + PARENT_TABLE + " (LIKE " + LEGACY_TABLE
+                + " INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS) PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ADD PRIMARY KEY (id, created_at)");
+
+        YearMonth firstMonth = oldestCreatedAt != null ? YearMonth.from(oldestCreatedAt) : YearMonth.now();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + PARENT_TABLE + " DEFAULT");
+
+        long copiedRows = jdbcTemplate.update("INSERT INTO " + PARENT_TABLE + " (" + insertableColumns + ") SELECT " + insertableColumns + " FROM " + LEGACY_TABLE);
+
+        // The id sequence is owned by the old column and would be dropped with it
+        jdbcTemplate.execute("ALTER SEQUENCE IF EXISTS expenses_seq OWNED BY NONE");
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        jdbcTemplate.execute("ALTER SEQUENCE IF EXISTS expenses_seq OWNED BY " + PARENT_TABLE + ".id");
+
+        for (String indexDefinition : indexDefinitions) {
+            jdbcTemplate.execute(indexDefinition.replaceFirst(" ON (ONLY )?(\\S+\\.)?" + LEGACY_TABLE + " ", " ON $2" + PARENT_TABLE + " "));
+        }
+        for (String foreignKey : outgoingForeignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " " + foreignKey);
+        }
+        // The delete side triggers went with the old table
+        installReferenceTriggers();
+
+        return copiedRows;
+    }
+
+    /**
+     * Enforces every {@link #EXPENSE_REFERENCES} column with a pair of triggers, the same NO ACTION
+     * behaviour a foreign key has: one on the child checks the expense exists, one on expenses
+     * refuses to delete a row that is still referenced. Installed on every startup whether or not
+     * expenses is partitioned, so integrity never depends on which constraints Hibernate created.
+     */
+    public void installReferenceTriggers() {
+        // Child side: the referenced expense must exist; FOR KEY SHARE holds off its deletion until commit
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION expenses_fk_check_reference() RETURNS trigger AS $$
+                DECLARE
+                    expense_id bigint := (to_jsonb(NEW) ->> TG_ARGV[0])::bigint;
+                BEGIN
+                    -- Hibernate sets every column on update; only a changed reference needs checking
+                    IF TG_OP = 'UPDATE' AND expense_id IS NOT DISTINCT FROM (to_jsonb(OLD) ->> TG_ARGV[0])::bigint THEN
+                        RETURN NEW;
+                    END IF;
+                    IF expense_id IS NOT NULL THEN
+                        PERFORM 1 FROM expenses WHERE id = expense_id FOR KEY SHARE;
+                        IF NOT FOUND THEN
+                            RAISE EXCEPTION 'insert or update on table "%" violates foreign key "%"', TG_TABLE_NAME, TG_NAME
+                                USING ERRCODE = 'foreign_key_violation', DETAIL = format('Key (%s)=(%s) is not present in table "expenses".', TG_ARGV[0], expense_id);
+                        END IF;
+                    END IF;
+                    RETURN NEW;
+                END
+                $$ LANGUAGE plpgsql""");
+        // Parent side: runs after the whole statement, so a statement deleting the children too (the archive chunk) passes
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION expenses_fk_check_delete() RETURNS trigger AS $$
+                DECLARE
+                    still_referenced boolean;
+                BEGIN
+                    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I = $1)', TG_ARGV[0], TG_ARGV[1])
+                        INTO still_referenced USING OLD.id;
+                    IF still_referenced THEN
+                        RAISE EXCEPTION 'update or delete on table "expenses" violates foreign key "%" on table "%"', TG_NAME, TG_ARGV[0]
+                            USING ERRCODE = 'foreign_key_violation', DETAIL = format('Key (id)=(%s) is still referenced from table "%s".', OLD.id, TG_ARGV[0]);
+                    END IF;
+                    RETURN NULL;
+                END
+                $$ LANGUAGE plpgsql""");
+
+        for (ExpenseReference reference : EXPENSE_REFERENCES) {
+            String triggerPrefix = reference.childTable() + "_" + reference.childColumn();
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + triggerPrefix + " ON " + reference.childTable() + " (" + reference.childColumn() + ")");
+            jdbcTemplate.execute("CREATE OR REPLACE TRIGGER " + triggerPrefix + "_ref"
+                    + " BEFORE INSERT OR UPDATE OF " + reference.childColumn() + " ON " + reference.childTable()
+                    + " FOR EACH ROW EXECUTE FUNCTION expenses_fk_check_reference('" + reference.childColumn() + "')");
+            jdbcTemplate.execute("CREATE OR REPLACE TRIGGER " + triggerPrefix + "_del"
+                    + " AFTER DELETE ON " + PARENT_TABLE
+                    + " FOR EACH ROW EXECUTE FUNCTION expenses_fk_check_delete('" + reference.childTable() + "', '" + reference.childColumn() + "')");
+        }
+    }
+
+    private record ExpenseReference(String childTable, String childColumn) {
+    }
+}
@@ -1,52 +1,129 @@
 package alexisTrejo.expenses.tracking.api.Repository;
 
 import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.DashboardStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
 import alexisTrejo.expenses.tracking.api.Models.Expense;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
-import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryDTO;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense>, ExpenseListItemRepository {
 
-    @Query("SELECT e FROM Expense e WHERE e.user.id = :userId AND e.deletedAt IS NULL")
-    Page<Expense> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    // Closed projection shared by the listings; reading the FK ids does not join users
+    String LIST_ITEM_SELECT = "SELECT new alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO(" +
+            "e.id, e.user.id, e.amount, e.category, e.description, e.date, e.receiptUrl, e.status, " +
+            "e.approvedBy.id, e.rejectionReason, e.createdAt) FROM Expense e ";
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE e.user.id = :userId AND e.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(e) FROM Expense e WHERE e.user.id = :userId AND e.deletedAt IS NULL")
+    Page<ExpenseListItemDTO> findListItemsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     @Override
     @Query("SELECT e FROM Expense e WHERE e.id = :id AND e.deletedAt IS NULL")
     Optional<Expense> findById(Long id);
 
-    @Query("SELECT e FROM Expense e WHERE e.status = :status AND e.deletedAt IS NULL ORDER BY e.createdAt")
-    Page<Expense> findByStatus(@Param("status") ExpenseStatus status, Pageable pageable);
+    @EntityGraph("Expense.withAttachments")
+    @Query("SELECT e FROM Expense e WHERE e.id = :id AND e.deletedAt IS NULL")
+    Optional<Expense> findWithAttachmentsById(@Param("id") Long id);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE e.status = :status AND e.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(e) FROM Expense e WHERE e.status = :status AND e.deletedAt IS NULL")
+    Page<ExpenseListItemDTO> findListItemsByStatus(@Param("status") ExpenseStatus status, Pageable pageable);
+
+    // Keyset (seek) pagination on (createdAt, id); callers pass a Pageable of size + 1 to detect a next page without a COUNT.
+    // The row-value comparison lets Postgres seek into the (..., created_at, id) index instead of filtering an OR;
+    // partition pruning does not look at row comparisons, so the plain created_at bound is repeated for it.
+    @Query(LIST_ITEM_SELECT + "WHERE e.user.id = :userId AND e.deletedAt IS NULL " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseListItemDTO> findFirstByUserIdKeyset(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE e.user.id = :userId AND e.deletedAt IS NULL " +
+            "AND (e.createdAt, e.id) < (:createdAt, :id) AND e.createdAt <= :createdAt " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseListItemDTO> findByUserIdKeysetAfter(@Param("userId") Long userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE e.status = :status AND e.deletedAt IS NULL " +
+            "ORDER BY e.createdAt ASC, e.id ASC")
+    List<ExpenseListItemDTO> findFirstByStatusKeysetAsc(@Param("status") ExpenseStatus status, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE e.status = :status AND e.deletedAt IS NULL " +
+            "AND (e.createdAt, e.id) > (:createdAt, :id) AND e.createdAt >= :createdAt " +
+            "ORDER BY e.createdAt ASC, e.id ASC")
+    List<ExpenseListItemDTO> findByStatusKeysetAfterAsc(@Param("status") ExpenseStatus status,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE e.status = :status AND e.deletedAt IS NULL " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseListItemDTO> findFirstByStatusKeysetDesc(@Param("status") ExpenseStatus status, Pageable pageable);
+
+    @Query(LIST_ITEM_SELECT + "WHERE e.status = :status AND e.deletedAt IS NULL " +
+            "AND (e.createdAt, e.id) < (:createdAt, :id) AND e.createdAt <= :createdAt " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExpenseListItemDTO> findByStatusKeysetAfterDesc(@Param("status") ExpenseStatus status,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Query("SELECT new alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow(e.status, COUNT(e), SUM(e.amount)) " +
+            "FROM Expense e " +
+            "WHERE e.createdAt BETWEEN :startDate AND :endDate " +
+            "AND e.deletedAt IS NULL " +
+            "GROUP BY e.status")
+    List<ExpenseSummaryRow> getExpenseSummaryGroupedByStatus(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
 
-    @Query("SELECT new alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryDTO(SUM(e.amount), COUNT(e)) " +
+    @Query("SELECT new alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow(e.category, e.status, COUNT(e), SUM(e.amount)) " +
             "FROM Expense e " +
-            "WHERE e.status = :status " +
-            "AND e.createdAt BETWEEN :startDate AND :endDate " +
-            "AND e.deletedAt IS NULL")
-    CompletableFuture<ExpenseSummaryDTO> getExpenseSummaryByStatusAndDateRange(
-            @Param("status") ExpenseStatus status,
+            "WHERE e.createdAt BETWEEN :startDate AND :endDate " +
+            "AND e.deletedAt IS NULL " +
+            "GROUP BY e.category, e.status")
+    List<ExpenseSummaryRow> getExpenseSummaryGroupedByCategoryAndStatus(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    @Query("SELECT new alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow(u.department, e.status, COUNT(e), SUM(e.amount)) " +
+            "FROM Expense e JOIN e.user u " +
+            "WHERE e.createdAt BETWEEN :startDate AND :endDate " +
+            "AND e.deletedAt IS NULL " +
+            "GROUP BY u.department, e.status")
+    List<ExpenseSummaryRow> getExpenseSummaryGroupedByDepartmentAndStatus(
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
 
+    @Query("SELECT e.id, e.status FROM Expense e WHERE e.id IN :ids AND e.deletedAt IS NULL")
+    List<Object[]> findStatusesByIds(@Param("ids") Collection<Long> ids);
+
     @Query(value = "SELECT "
             + "COUNT(e.id), "
             + "SUM(CASE WHEN e.status = 'PENDING' THEN 1 ELSE 0 END), "
             + "SUM(CASE WHEN e.status = 'REJECTED' THEN 1 ELSE 0 END), "
             + "SUM(CASE WHEN e.status = 'APPROVED' THEN 1 ELSE 0 END), "
             + "SUM(CASE WHEN e.status = 'REIMBURSED' THEN 1 ELSE 0 END) "
-            + "FROM expenses e", nativeQuery = true)
+            + "FROM expenses e "
+            + "WHERE e.deleted_at IS NULL", nativeQuery = true)
     List<Object[]> getDashboardStatsRaw();
 
-    @Query("SELECT COUNT(e) FROM Expense e WHERE e.status = 'APPROVED' AND e.reimbursement IS NULL")
+    @Query("SELECT COUNT(e) FROM Expense e WHERE e.status = 'APPROVED' AND e.reimbursement IS NULL AND e.deletedAt IS NULL")
     int countPendingReimbursement();
+
 }
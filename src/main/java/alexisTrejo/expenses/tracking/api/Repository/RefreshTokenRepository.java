@@ -0,0 +1,77 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Hashed rotating refresh tokens in refresh_tokens (see db/refresh-tokens.sql). Times are taken
+ * from the database clock so every node agrees on expiry.
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    // Claims the token in one primary key lookup: only the first of two concurrent uses gets the row
+    private static final String MARK_USED_SQL = """
+            UPDATE refresh_tokens
+            SET used_at = LOCALTIMESTAMP
+            WHERE token_hash = ? AND used_at IS NULL AND expires_at > LOCALTIMESTAMP
+            RETURNING family_id, user_id, email, role
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RefreshTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(byte[] tokenHash, UUID familyId, Long userId, String email, String role, long validitySeconds) {
+        jdbcTemplate.update("""
+                INSERT INTO refresh_tokens (token_hash, family_id, user_id, email, role, expires_at)
+                VALUES (?, ?, ?, ?, ?, LOCALTIMESTAMP + make_interval(secs => ?))
+                """, tokenHash, familyId, userId, email, role, (double) validitySeconds);
+    }
+
+    /**
+     * Marks a live token as used and returns its family and user.
+     */
+    public Optional<UsedRefreshToken> markUsed(byte[] tokenHash) {
+        return jdbcTemplate.query(MARK_USED_SQL, (rs, rowNum) -> new UsedRefreshToken(
+                        rs.getObject("family_id", UUID.class),
+                        rs.getLong("user_id"),
+                        rs.getString("email"),
+                        rs.getString("role")),
+                        tokenHash)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * The family of a token that was already rotated, if the token is one.
+     */
+    public Optional<UUID> findUsedTokenFamily(byte[] tokenHash) {
+        return jdbcTemplate.query("SELECT family_id FROM refresh_tokens WHERE token_hash = ? AND used_at IS NOT NULL",
+                        (rs, rowNum) -> rs.getObject("family_id", UUID.class), tokenHash)
+                .stream()
+                .findFirst();
+    }
+
+    public int deleteFamily(UUID familyId) {
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE family_id = ?", familyId);
+    }
+
+    public int deleteByUserId(Long userId) {
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", userId);
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE expires_at <= LOCALTIMESTAMP");
+    }
+
+    public record UsedRefreshToken(UUID familyId, Long userId, String email, String role) {
+    }
+}
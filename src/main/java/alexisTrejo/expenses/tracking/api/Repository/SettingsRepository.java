@@ -3,7 +3,6 @@ package alexisTrejo.expenses.tracking.api.Repository;
 import alexisTrejo.expenses.tracking.api.Models.AdminSettings;
 import alexisTrejo.expenses.tracking.api.Models.Expense;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
-import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -0,0 +1,52 @@
+package alexisTrejo.expenses.tracking.api.Repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC writes to users for paths that do not need the entity.
+ */
+@Repository
+public class UserJdbcRepository {
+
+    // Keeps each statement far below the 65535 bind parameters Postgres accepts
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public UserJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Sets last_login for many users with one statement per chunk. A timestamp older than the
+     * stored one is ignored, so a late flush never moves a login back.
+     */
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        List<Map.Entry<Long, LocalDateTime>> entries = new ArrayList<>(lastLogins.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, LocalDateTime>> chunk = entries.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size()));
+
+            StringBuilder sql = new StringBuilder("UPDATE users u SET last_login = v.last_login FROM (VALUES ");
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?::bigint, ?::timestamp)" : ", (?, ?)");
+                args[i * 2] = chunk.get(i).getKey();
+                args[i * 2 + 1] = Timestamp.valueOf(chunk.get(i).getValue());
+            }
+            sql.append(") AS v(id, last_login) WHERE u.id = v.id AND u.last_login < v.last_login");
+
+            updated += jdbcTemplate.update(sql.toString(), args);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,181 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Live.PendingExpenseEventDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.CacheBusRepository;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sends local cache changes to the other API nodes over Postgres NOTIFY. Events raised inside a
+ * transaction are collected and sent once from beforeCommit, through JdbcTemplate on that
+ * transaction's own connection; Postgres holds the notification until the commit and discards it
+ * on rollback, so other nodes only hear about changes that actually committed. Events raised
+ * outside a transaction are sent right away. Status counter deltas of one transaction are summed
+ * and repeated evictions collapsed before sending.
+ */
+@Slf4j
+@Service
+public class CacheBusDomainService {
+
+    // Postgres rejects payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final CacheBusRepository cacheBusRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    public CacheBusDomainService(CacheBusRepository cacheBusRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${expenses.cache-bus.enabled:false}") boolean enabled) {
+        this.cacheBusRepository = cacheBusRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(CacheBusEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(event));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<CacheBusEvent> pendingEvents = (List<CacheBusEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pendingEvents == null) {
+            List<CacheBusEvent> transactionEvents = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionEvents);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(merge(transactionEvents));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheBusDomainService.this);
+                }
+            });
+            pendingEvents = transactionEvents;
+        }
+        pendingEvents.add(event);
+    }
+
+    public CacheBusMessage parse(String payload) throws JsonProcessingException {
+        return objectMapper.readValue(payload, CacheBusMessage.class);
+    }
+
+    private void send(List<CacheBusEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        String payload = toJson(new CacheBusMessage(nodeId, events));
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+            cacheBusRepository.notify(payload);
+            return;
+        }
+        if (events.size() == 1) {
+            CacheBusEvent event = events.get(0);
+            if (event.getType() == CacheBusEvent.Type.PENDING_QUEUE_CHANGES) {
+                sendPendingQueueChanges(event.getAdded(), event.getRemovedIds());
+                return;
+            }
+            if (event.getType() == CacheBusEvent.Type.ANALYTICS_CHANGES) {
+                sendAnalyticsChanges(event.getUpserts(), event.getRemovedIds());
+                return;
+            }
+            // Listing changes can grow this large too; dropping the whole status says the same
+            log.warn("Cache bus event {} too large for one notification, sending an invalidation instead", event.getType());
+            send(List.of(event.getStatus() != null ? CacheBusEvent.listingInvalidate(event.getStatus()) : CacheBusEvent.clear(event.getCacheName())));
+            return;
+        }
+
+        int half = events.size() / 2;
+        send(events.subList(0, half));
+        send(events.subList(half, events.size()));
+    }
+
+    // Halves the changes until each part fits; a change that does not fit alone makes the other nodes resync
+    private void sendPendingQueueChanges(List<PendingExpenseEventDTO> added, List<Long> removedIds) {
+        if (added.size() + removedIds.size() <= 1) {
+            log.warn("Pending queue change too large for one notification, sending a resync instead");
+            send(List.of(CacheBusEvent.pendingQueueResync()));
+            return;
+        }
+
+        int addedHalf = (added.size() + 1) / 2;
+        int removedHalf = removedIds.size() / 2;
+        send(List.of(CacheBusEvent.pendingQueueChanges(added.subList(0, addedHalf), removedIds.subList(0, removedHalf))));
+        send(List.of(CacheBusEvent.pendingQueueChanges(added.subList(addedHalf, added.size()), removedIds.subList(removedHalf, removedIds.size()))));
+    }
+
+    // Halves the rows until each part fits; one row is far below the limit
+    private void sendAnalyticsChanges(List<List<Long>> upserts, List<Long> removedIds) {
+        if (upserts.size() + removedIds.size() <= 1) {
+            log.error("Analytics store change too large for one notification, other nodes miss it until their next reload");
+            return;
+        }
+
+        int upsertsHalf = (upserts.size() + 1) / 2;
+        int removedHalf = removedIds.size() / 2;
+        send(List.of(CacheBusEvent.analyticsChanges(upserts.subList(0, upsertsHalf), removedIds.subList(0, removedHalf))));
+        send(List.of(CacheBusEvent.analyticsChanges(upserts.subList(upsertsHalf, upserts.size()), removedIds.subList(removedHalf, removedIds.size()))));
+    }
+
+    private static List<CacheBusEvent> merge(List<CacheBusEvent> events) {
+        Map<ExpenseStatus, Long> deltas = new EnumMap<>(ExpenseStatus.class);
+        Set<CacheBusEvent> merged = new LinkedHashSet<>();
+        for (CacheBusEvent event : events) {
+            if (event.getType() == CacheBusEvent.Type.STATUS_DELTAS) {
+                event.getDeltas().forEach((status, delta) -> deltas.merge(status, delta, Long::sum));
+            } else {
+                merged.add(event);
+            }
+        }
+
+        deltas.values().removeIf(delta -> delta == 0);
+        List<CacheBusEvent> mergedEvents = new ArrayList<>(merged);
+        if (!deltas.isEmpty()) {
+            mergedEvents.add(CacheBusEvent.statusDeltas(deltas));
+        }
+        return mergedEvents;
+    }
+
+    private String toJson(CacheBusMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cache bus message", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.CacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the Caffeine statistics of every cache, for sizing the specs in
+ * expenses.caches.specs against real traffic. Load times only cover caches loaded through the
+ * cache itself (sync @Cacheable and the listing cache).
+ */
+@Service
+public class CacheInspectionDomainService {
+
+    private static final int MEMORY_SAMPLE_SIZE = 32;
+    // Rough cost of a Caffeine node, its hash table slot and the key and value object headers
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CacheInspectionDomainService(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<CacheStatsDTO> getCacheStats() {
+        List<CacheStatsDTO> cacheStats = new ArrayList<>();
+        for (String cacheName : CacheConfig.CACHE_NAMES) {
+            org.springframework.cache.Cache springCache = cacheManager.getCache(cacheName);
+            if (springCache != null) {
+                cacheStats.add(toStats(cacheName, nativeCache(springCache)));
+            }
+        }
+        return cacheStats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(org.springframework.cache.Cache springCache) {
+        return (Cache<Object, Object>) springCache.getNativeCache();
+    }
+
+    private CacheStatsDTO toStats(String cacheName, Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+        long entries = cache.estimatedSize();
+
+        return CacheStatsDTO.builder()
+                .name(cacheName)
+                .entries(entries)
+                .maximum(eviction.map(Policy.Eviction::getMaximum).orElse(null))
+                .weighted(eviction.map(Policy.Eviction::isWeighted).orElse(false))
+                .weightedSize(eviction.filter(Policy.Eviction::isWeighted).map(policy -> policy.weightedSize().orElse(0)).orElse(null))
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .loadCount(stats.loadCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadTimeMs(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+                .totalLoadTimeMs((double) stats.totalLoadTime() / TimeUnit.MILLISECONDS.toNanos(1))
+                .estimatedMemoryBytes(estimateMemory(cache, entries))
+                .build();
+    }
+
+    /**
+     * Average JSON size of a few entries, scaled to the whole cache, plus a fixed per-entry
+     * overhead. Heap use is higher than the JSON size, so read this as a lower bound for comparing
+     * caches rather than an exact figure.
+     */
+    private long estimateMemory(Cache<Object, Object> cache, long entries) {
+        if (entries == 0) {
+            return 0;
+        }
+
+        long sampledBytes = 0;
+        int sampled = 0;
+        Iterator<Map.Entry<Object, Object>> iterator = cache.asMap().entrySet().iterator();
+        while (iterator.hasNext() && sampled < MEMORY_SAMPLE_SIZE) {
+            Map.Entry<Object, Object> entry = iterator.next();
+            sampledBytes += jsonSize(entry.getKey()) + jsonSize(entry.getValue());
+            sampled++;
+        }
+        if (sampled == 0) {
+            return 0;
+        }
+
+        return entries * (sampledBytes / sampled + ENTRY_OVERHEAD_BYTES);
+    }
+
+    private long jsonSize(Object value) {
+        // PageImpl is not meant to be serialized as is; its rows are what takes the memory
+        Object serializable = value instanceof Page<?> page ? page.getContent() : value;
+        if (serializable instanceof CursorPage<?> cursorPage) {
+            serializable = cursorPage.getContent();
+        }
+        try {
+            return objectMapper.writeValueAsBytes(serializable).length;
+        } catch (JsonProcessingException e) {
+            return String.valueOf(serializable).length() * 2L;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.AmountHistogramBucketDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.TopSpenderDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.DashboardStatsDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseJdbcRepository;
+import alexisTrejo.expenses.tracking.api.Utils.Analytics.ExpenseColumnStore;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChange;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryGroupBy;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Alternative backend for the dashboard and date-range summaries, answered from an in-memory
+ * {@link ExpenseColumnStore} instead of Postgres when expenses.analytics.backend=columnar.
+ * The store is loaded once from the database and then kept current by the expense change events
+ * that also maintain the daily rollups; changes are applied after their transaction commits and
+ * sent over the cache bus, so every node's store sees the writes of the others. A node that lost
+ * the bus reloads its store when it reconnects.
+ */
+@Slf4j
+@Service
+public class ExpenseAnalyticsDomainService {
+
+    private static final ExpenseStatus[] STATUSES = ExpenseStatus.values();
+    private static final ExpenseCategory[] CATEGORIES = ExpenseCategory.values();
+
+    private final ExpenseJdbcRepository expenseJdbcRepository;
+    private final CacheBusDomainService cacheBusDomainService;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final boolean columnarBackend;
+    private final int fetchSize;
+
+    private final Object loadMonitor = new Object();
+    private volatile ExpenseColumnStore store;
+    // Changes committed while a reload is streaming, replayed onto the new store; guarded by loadMonitor
+    private List<Consumer<ExpenseColumnStore>> changesDuringLoad;
+
+    @Autowired
+    public ExpenseAnalyticsDomainService(ExpenseJdbcRepository expenseJdbcRepository,
+                                         CacheBusDomainService cacheBusDomainService,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${expenses.analytics.backend:database}") String backend,
+                                         @Value("${expenses.analytics.fetch-size:5000}") int fetchSize) {
+        this.expenseJdbcRepository = expenseJdbcRepository;
+        this.cacheBusDomainService = cacheBusDomainService;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.columnarBackend = "columnar".equalsIgnoreCase(backend);
+        this.fetchSize = fetchSize;
+    }
+
+    public boolean isEnabled() {
+        return columnarBackend;
+    }
+
+    /**
+     * True once the store is loaded; until then callers keep using the database.
+     */
+    public boolean isServing() {
+        return columnarBackend && store != null;
+    }
+
+    // synchronized so a manual reload and the nightly one never interleave their buffers
+    public synchronized int reload() {
+        if (!columnarBackend) {
+            return 0;
+        }
+
+        synchronized (loadMonitor) {
+            changesDuringLoad = new ArrayList<>();
+        }
+
+        ExpenseColumnStore loadedStore = new ExpenseColumnStore(store != null ? store.size() : 1024);
+        long start = System.nanoTime();
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> expenseJdbcRepository.loadAnalyticsColumns(loadedStore, fetchSize));
+        } catch (RuntimeException e) {
+            synchronized (loadMonitor) {
+                changesDuringLoad = null;
+            }
+            throw e;
+        }
+
+        synchronized (loadMonitor) {
+            changesDuringLoad.forEach(change -> change.accept(loadedStore));
+            changesDuringLoad = null;
+            store = loadedStore;
+        }
+
+        log.info("Expense analytics store loaded with {} rows in {} ms", loadedStore.size(), (System.nanoTime() - start) / 1_000_000);
+        return loadedStore.size();
+    }
+
+    // In the writing transaction, so the rows go out on the cache bus when it commits
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        if (!columnarBackend) {
+            return;
+        }
+        List<List<Long>> upserts = upsertedRows(event);
+        List<Long> removedIds = removedIds(event);
+        if (!upserts.isEmpty() || !removedIds.isEmpty()) {
+            cacheBusDomainService.publish(CacheBusEvent.analyticsChanges(upserts, removedIds));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void applyExpenseChanged(ExpenseChangedEvent event) {
+        applyChanges(upsertedRows(event), removedIds(event));
+    }
+
+    /**
+     * Applies rows committed on this or another node to the local store only, in the
+     * [id, user id, epoch day, status ordinal, category ordinal, amount in cents] layout of the cache bus.
+     */
+    public void applyChanges(List<List<Long>> upserts, List<Long> removedIds) {
+        if (!columnarBackend || (upserts.isEmpty() && removedIds.isEmpty())) {
+            return;
+        }
+        apply(columnStore -> {
+            upserts.forEach(row -> columnStore.upsert(
+                    row.get(0),
+                    row.get(1),
+                    row.get(2).intValue(),
+                    STATUSES[row.get(3).intValue()],
+                    CATEGORIES[row.get(4).intValue()],
+                    row.get(5)));
+            removedIds.forEach(columnStore::remove);
+        });
+    }
+
+    /**
+     * Same rows the rollup and expenses queries produce for a whole-day range, grouped by
+     * status or by category and status. The department grouping is not kept in the store.
+     */
+    public List<ExpenseSummaryRow> getSummaryRows(LocalDate startDay, LocalDate endDay, ExpenseSummaryGroupBy groupBy) {
+        long[] cells = store.aggregateByStatusAndCategory((int) startDay.toEpochDay(), (int) endDay.toEpochDay());
+
+        List<ExpenseSummaryRow> rows = new ArrayList<>();
+        for (ExpenseStatus status : STATUSES) {
+            long statusCount = 0;
+            long statusCents = 0;
+            for (ExpenseCategory category : CATEGORIES) {
+                int cell = (status.ordinal() * ExpenseColumnStore.CATEGORY_COUNT + category.ordinal()) * 2;
+                long count = cells[cell];
+                if (count == 0) {
+                    continue;
+                }
+                if (groupBy == ExpenseSummaryGroupBy.CATEGORY) {
+                    rows.add(new ExpenseSummaryRow(category, status, count, cells[cell + 1] / 100.0));
+                }
+                statusCount += count;
+                statusCents += cells[cell + 1];
+            }
+            if (groupBy != ExpenseSummaryGroupBy.CATEGORY && statusCount > 0) {
+                rows.add(new ExpenseSummaryRow(status, statusCount, statusCents / 100.0));
+            }
+        }
+        return rows;
+    }
+
+    public DashboardStatsDTO getDashboardStats() {
+        long[] cells = store.aggregateByStatusAndCategory(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        long[] statusCounts = new long[ExpenseColumnStore.STATUS_COUNT];
+        for (int status = 0; status < ExpenseColumnStore.STATUS_COUNT; status++) {
+            for (int category = 0; category < ExpenseColumnStore.CATEGORY_COUNT; category++) {
+                statusCounts[status] += cells[(status * ExpenseColumnStore.CATEGORY_COUNT + category) * 2];
+            }
+        }
+
+        long total = 0;
+        for (long statusCount : statusCounts) {
+            total += statusCount;
+        }
+        return new DashboardStatsDTO(
+                Math.toIntExact(total),
+                Math.toIntExact(statusCounts[ExpenseStatus.PENDING.ordinal()]),
+                Math.toIntExact(statusCounts[ExpenseStatus.REJECTED.ordinal()]),
+                Math.toIntExact(statusCounts[ExpenseStatus.APPROVED.ordinal()]),
+                Math.toIntExact(statusCounts[ExpenseStatus.REIMBURSED.ordinal()])
+        );
+    }
+
+    public List<AmountHistogramBucketDTO> getAmountHistogram(LocalDate startDay, LocalDate endDay, double bucketWidth, int buckets) {
+        long bucketWidthCents = Math.max(1, ExpenseColumnStore.toCents(bucketWidth));
+        long[] counts = store.amountHistogram((int) startDay.toEpochDay(), (int) endDay.toEpochDay(), bucketWidthCents, buckets);
+
+        List<AmountHistogramBucketDTO> histogram = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            double minAmount = bucket * bucketWidthCents / 100.0;
+            Double maxAmount = bucket == buckets - 1 ? null : (bucket + 1) * bucketWidthCents / 100.0;
+            histogram.add(new AmountHistogramBucketDTO(minAmount, maxAmount, counts[bucket]));
+        }
+        return histogram;
+    }
+
+    public List<TopSpenderDTO> getTopSpenders(LocalDate startDay, LocalDate endDay, int limit) {
+        long[][] top = store.topUsersByAmount((int) startDay.toEpochDay(), (int) endDay.toEpochDay(), limit);
+
+        List<TopSpenderDTO> topSpenders = new ArrayList<>(top[0].length);
+        for (int i = 0; i < top[0].length; i++) {
+            topSpenders.add(new TopSpenderDTO(top[0][i], top[1][i] / 100.0));
+        }
+        return topSpenders;
+    }
+
+    private static List<List<Long>> upsertedRows(ExpenseChangedEvent event) {
+        return event.getChanges().stream()
+                .filter(change -> change.getToStatus() != null)
+                .map(change -> Arrays.asList(
+                        change.getId(),
+                        change.getUserId(),
+                        change.getCreatedAt().toLocalDate().toEpochDay(),
+                        (long) change.getToStatus().ordinal(),
+                        (long) change.getCategory().ordinal(),
+                        ExpenseColumnStore.toCents(change.getAmount())))
+                .toList();
+    }
+
+    private static List<Long> removedIds(ExpenseChangedEvent event) {
+        return event.getChanges().stream()
+                .filter(change -> change.getToStatus() == null)
+                .map(ExpenseChange::getId)
+                .toList();
+    }
+
+    private void apply(Consumer<ExpenseColumnStore> change) {
+        synchronized (loadMonitor) {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+            ExpenseColumnStore current = store;
+            if (current != null) {
+                change.accept(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+public class ExpenseArchiveDomainService {
+
+    private final ExpenseArchiveRepository archiveRepository;
+    private final ExpenseListingCacheDomainService expenseListingCacheDomainService;
+    private final TransactionTemplate transactionTemplate;
+    private final int deletedRetentionDays;
+    private final int reimbursedRetentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    @Autowired
+    public ExpenseArchiveDomainService(ExpenseArchiveRepository archiveRepository,
+                                       ExpenseListingCacheDomainService expenseListingCacheDomainService,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${expenses.archive.deleted-retention-days:30}") int deletedRetentionDays,
+                                       @Value("${expenses.archive.reimbursed-retention-days:365}") int reimbursedRetentionDays,
+                                       @Value("${expenses.archive.chunk-size:1000}") int chunkSize,
+                                       @Value("${expenses.archive.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.archiveRepository = archiveRepository;
+        this.expenseListingCacheDomainService = expenseListingCacheDomainService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletedRetentionDays = deletedRetentionDays;
+        this.reimbursedRetentionDays = reimbursedRetentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    /**
+     * Moves soft-deleted and long reimbursed expenses to the archive, one short transaction per
+     * chunk so locks and WAL stay bounded. Whatever is left after maxChunksPerRun waits for the next run.
+     */
+    public long archiveColdExpenses() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedBefore = now.minusDays(deletedRetentionDays);
+        LocalDateTime reimbursedBefore = now.minusDays(reimbursedRetentionDays);
+
+        long archivedRows = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer movedRows = transactionTemplate.execute(status -> archiveRepository.archiveChunk(deletedBefore, reimbursedBefore, chunkSize));
+            archivedRows += movedRows != null ? movedRows : 0;
+            if (movedRows == null || movedRows < chunkSize) {
+                break;
+            }
+        }
+
+        if (archivedRows > 0) {
+            // Soft-deleted rows were already out of the listings; archived reimbursed ones just left
+            expenseListingCacheDomainService.invalidateStatus(ExpenseStatus.REIMBURSED);
+            log.info("Archived {} cold expenses", archivedRows);
+        }
+        return archivedRows;
+    }
+}
@@ -1,75 +1,126 @@
 package alexisTrejo.expenses.tracking.api.Service.DomainService;
 
-import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseDailyRollupRepository;
 import alexisTrejo.expenses.tracking.api.Repository.ExpenseRepository;
 import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummary;
-import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryDTO;
-import org.springframework.scheduling.annotation.Async;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryGroupBy;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryRow;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 public class ExpenseDomainService {
 
+    // Summaries ending at or after this time of day are treated as covering the whole end day
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
     private final ExpenseRepository expenseRepository;
+    private final ExpenseDailyRollupRepository rollupRepository;
+    private final ExpenseAnalyticsDomainService expenseAnalyticsDomainService;
 
-    public ExpenseDomainService(ExpenseRepository expenseRepository) {
+    public ExpenseDomainService(ExpenseRepository expenseRepository,
+                                ExpenseDailyRollupRepository rollupRepository,
+                                ExpenseAnalyticsDomainService expenseAnalyticsDomainService) {
         this.expenseRepository = expenseRepository;
+        this.rollupRepository = rollupRepository;
+        this.expenseAnalyticsDomainService = expenseAnalyticsDomainService;
     }
 
-    @Async
-    public CompletableFuture<ExpenseSummary> generateExpenseSummary(LocalDateTime startDate, LocalDateTime endDate) {
-        CompletableFuture<ExpenseSummaryDTO> rejectedSummaryFuture = expenseRepository.getExpenseSummaryByStatusAndDateRange(ExpenseStatus.REJECTED, startDate, endDate);
-        CompletableFuture<ExpenseSummaryDTO> approvedSummaryFuture = expenseRepository.getExpenseSummaryByStatusAndDateRange(ExpenseStatus.APPROVED, startDate, endDate);
-        CompletableFuture<ExpenseSummaryDTO> pendingSummaryFuture = expenseRepository.getExpenseSummaryByStatusAndDateRange(ExpenseStatus.PENDING, startDate, endDate);
-        CompletableFuture<ExpenseSummaryDTO> reimbursedSummaryFuture = expenseRepository.getExpenseSummaryByStatusAndDateRange(ExpenseStatus.REIMBURSED, startDate, endDate);
+    /**
+     * Builds the summary from a single GROUP BY pass instead of one query per status.
+     * Ranges made of whole days are answered from the daily rollups; partial days and the
+     * department grouping (not part of the rollup key) fall back to the expenses table. With the
+     * columnar analytics backend loaded, whole-day ranges are scanned in memory instead of the rollups.
+     * When a grouping is requested the per-group rows are also folded into the overall totals.
+     */
+    public ExpenseSummary generateExpenseSummary(LocalDateTime startDate, LocalDateTime endDate, ExpenseSummaryGroupBy groupBy) {
+        String summaryDateRange = startDate + " to " + endDate;
 
-        CompletableFuture.allOf(rejectedSummaryFuture, approvedSummaryFuture, pendingSummaryFuture, reimbursedSummaryFuture).join();
+        List<ExpenseSummaryRow> rows = isWholeDayRange(startDate, endDate)
+                ? getRollupRows(startDate, endDate, groupBy)
+                : getExpenseRows(startDate, endDate, groupBy);
 
-        ExpenseSummaryDTO rejectedSummaryDTO = getOrDefault(rejectedSummaryFuture.join());
-        ExpenseSummaryDTO approvedSummaryDTO = getOrDefault(approvedSummaryFuture.join());
-        ExpenseSummaryDTO pendingSummaryDTO = getOrDefault(pendingSummaryFuture.join());
-        ExpenseSummaryDTO reimbursedSummaryDTO = getOrDefault(reimbursedSummaryFuture.join());
+        ExpenseSummary summary = buildSummary(summaryDateRange, rows);
+        if (groupBy == ExpenseSummaryGroupBy.NONE) {
+            return summary;
+        }
 
-        // Extract counts and amounts from the DTOs
-        int approvedCount = Math.toIntExact(approvedSummaryDTO.getTotalCount());
-        int reimbursedCount = Math.toIntExact(reimbursedSummaryDTO.getTotalCount());
-        int pendingCount = Math.toIntExact(pendingSummaryDTO.getTotalCount());
-        int rejectCount = Math.toIntExact(rejectedSummaryDTO.getTotalCount());
+        Map<String, List<ExpenseSummaryRow>> rowsByGroup = new TreeMap<>();
+        for (ExpenseSummaryRow row : rows) {
+            rowsByGroup.computeIfAbsent(row.getGroupKey(), key -> new ArrayList<>()).add(row);
+        }
 
-        Double reimbursedAmount = reimbursedSummaryDTO.getTotalAmount();
-        Double pendingAmount = pendingSummaryDTO.getTotalAmount();
-        Double approvedAmount = approvedSummaryDTO.getTotalAmount();
-        Double rejectAmount = rejectedSummaryDTO.getTotalAmount();
+        Map<String, ExpenseSummary> groups = new TreeMap<>();
+        rowsByGroup.forEach((groupKey, groupRows) -> groups.put(groupKey, buildSummary(summaryDateRange, groupRows)));
+        summary.setGroups(groups);
 
-        // Create a summary date range string
-        String summaryDateRange = startDate + " to " + endDate;
+        return summary;
+    }
 
-        // Calculate total expenses and total amount
-        int totalExpenses = reimbursedCount + pendingCount + approvedCount + rejectCount;
-        double totalAmount = reimbursedAmount + pendingAmount + approvedAmount + rejectAmount;
+    private List<ExpenseSummaryRow> getRollupRows(LocalDateTime startDate, LocalDateTime endDate, ExpenseSummaryGroupBy groupBy) {
+        if (groupBy != ExpenseSummaryGroupBy.DEPARTMENT && expenseAnalyticsDomainService.isServing()) {
+            return expenseAnalyticsDomainService.getSummaryRows(startDate.toLocalDate(), endDate.toLocalDate(), groupBy);
+        }
 
-        return CompletableFuture.completedFuture(ExpenseSummary.builder()
-                .summaryDateRange(summaryDateRange)
-                .totalExpenses(totalExpenses)
-                .approvedExpenses(approvedCount)
-                .rejectedExpenses(rejectCount)
-                .pendingExpenses(pendingCount)
-                .reimbursedExpenses(reimbursedCount)
-                .totalAmount(totalAmount)
-                .approvedAmount(approvedAmount)
-                .rejectedAmount(rejectAmount)
-                .pendingAmount(pendingAmount)
-                .reimbursedAmount(reimbursedAmount)
-                .build());
+        return switch (groupBy) {
+            case NONE -> rollupRepository.getSummaryGroupedByStatus(startDate.toLocalDate(), endDate.toLocalDate());
+            case CATEGORY -> rollupRepository.getSummaryGroupedByCategoryAndStatus(startDate.toLocalDate(), endDate.toLocalDate());
+            case DEPARTMENT -> getExpenseRows(startDate, endDate, groupBy);
+        };
+    }
+
+    private List<ExpenseSummaryRow> getExpenseRows(LocalDateTime startDate, LocalDateTime endDate, ExpenseSummaryGroupBy groupBy) {
+        return switch (groupBy) {
+            case NONE -> expenseRepository.getExpenseSummaryGroupedByStatus(startDate, endDate);
+            case CATEGORY -> expenseRepository.getExpenseSummaryGroupedByCategoryAndStatus(startDate, endDate);
+            case DEPARTMENT -> expenseRepository.getExpenseSummaryGroupedByDepartmentAndStatus(startDate, endDate);
+        };
     }
 
-    private ExpenseSummaryDTO getOrDefault(ExpenseSummaryDTO dto) {
-        return new ExpenseSummaryDTO(
-                dto != null && dto.getTotalAmount() != null ? dto.getTotalAmount() : 0.0,
-                dto != null ? dto.getTotalCount() : 0L
-        );
+    private boolean isWholeDayRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                && !endDate.toLocalTime().isBefore(END_OF_DAY)
+                && !endDate.isBefore(startDate);
+    }
+
+    private ExpenseSummary buildSummary(String summaryDateRange, List<ExpenseSummaryRow> rows) {
+        ExpenseSummary summary = ExpenseSummary.builder()
+                .summaryDateRange(summaryDateRange)
+                .build();
+
+        for (ExpenseSummaryRow row : rows) {
+            int count = Math.toIntExact(row.getTotalCount());
+            double amount = row.getTotalAmount();
+
+            switch (row.getStatus()) {
+                case PENDING -> {
+                    summary.setPendingExpenses(summary.getPendingExpenses() + count);
+                    summary.setPendingAmount(summary.getPendingAmount() + amount);
+                }
+                case APPROVED -> {
+                    summary.setApprovedExpenses(summary.getApprovedExpenses() + count);
+                    summary.setApprovedAmount(summary.getApprovedAmount() + amount);
+                }
+                case REJECTED -> {
+                    summary.setRejectedExpenses(summary.getRejectedExpenses() + count);
+                    summary.setRejectedAmount(summary.getRejectedAmount() + amount);
+                }
+                case REIMBURSED -> {
+                    summary.setReimbursedExpenses(summary.getReimbursedExpenses() + count);
+                    summary.setReimbursedAmount(summary.getReimbursedAmount() + amount);
+                }
+            }
+
+            summary.setTotalExpenses(summary.getTotalExpenses() + count);
+            summary.setTotalAmount(summary.getTotalAmount() + amount);
+        }
+
+        return summary;
     }
 }
@@ -0,0 +1,202 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.ExpenseListingCacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Cache.ExpenseListingKey;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChange;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import alexisTrejo.expenses.tracking.api.Utils.Transactions.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches the expenses-by-status listings per status, page or cursor, size and sort, and drops
+ * only the entries a committed change can affect. Offset pages of the changed status always go,
+ * since their total count moved; keyset pages go only when the changed expense falls between
+ * their cursor and their last row (or anywhere past the cursor on the last page).
+ */
+@Service
+public class ExpenseListingCacheDomainService {
+
+    // Past this many changes in one write, checking every entry against each costs more than reloading the status
+    private static final int MAX_TARGETED_CHANGES = 64;
+
+    private final Cache<Object, Object> cache;
+    private final CacheBusDomainService cacheBusDomainService;
+    // Bumped on every invalidation so a load that raced with it is not kept
+    private final Map<ExpenseStatus, AtomicLong> generations = new EnumMap<>(ExpenseStatus.class);
+    private final Map<ExpenseStatus, LongAdder> invalidatedEntries = new EnumMap<>(ExpenseStatus.class);
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public ExpenseListingCacheDomainService(CacheManager cacheManager, CacheBusDomainService cacheBusDomainService) {
+        this.cache = (Cache<Object, Object>) cacheManager.getCache(CacheConfig.EXPENSE_LISTING_CACHE).getNativeCache();
+        this.cacheBusDomainService = cacheBusDomainService;
+        for (ExpenseStatus status : ExpenseStatus.values()) {
+            generations.put(status, new AtomicLong());
+            invalidatedEntries.put(status, new LongAdder());
+        }
+    }
+
+    public Page<ExpenseListItemDTO> getPage(ExpenseStatus status, Pageable pageable, Supplier<Page<ExpenseListItemDTO>> loader) {
+        return get(ExpenseListingKey.ofPage(status, pageable), loader);
+    }
+
+    public CursorPage<ExpenseListItemDTO> getKeysetPage(ExpenseStatus status, ExpenseCursor cursor, int size, boolean ascending,
+                                                        Supplier<CursorPage<ExpenseListItemDTO>> loader) {
+        return get(ExpenseListingKey.ofKeysetPage(status, cursor, size, ascending), loader);
+    }
+
+    // In the writing transaction, so the changes go out on the cache bus when it commits
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        changedPositions(event).forEach((status, positions) -> cacheBusDomainService.publish(positions.size() > MAX_TARGETED_CHANGES
+                ? CacheBusEvent.listingInvalidate(status)
+                : CacheBusEvent.listingChanges(status, positions.stream().map(ExpenseCursor::encode).toList())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void applyExpenseChanged(ExpenseChangedEvent event) {
+        changedPositions(event).forEach((status, positions) -> {
+            if (positions.size() > MAX_TARGETED_CHANGES) {
+                applyInvalidateStatus(status);
+            } else {
+                applyChanges(status, positions);
+            }
+        });
+    }
+
+    /**
+     * Drops every listing of the status, for writes that do not report which expenses moved.
+     */
+    public void invalidateStatus(ExpenseStatus status) {
+        AfterCommit.run(() -> applyInvalidateStatus(status));
+        cacheBusDomainService.publish(CacheBusEvent.listingInvalidate(status));
+    }
+
+    /**
+     * Applies changes committed on this or another node to the local cache only.
+     */
+    public void applyChanges(ExpenseStatus status, List<ExpenseCursor> positions) {
+        generations.get(status).incrementAndGet();
+        removeEntries(status, (key, value) -> positions.stream().anyMatch(position -> affects(key, value, position)));
+    }
+
+    public void applyInvalidateStatus(ExpenseStatus status) {
+        generations.get(status).incrementAndGet();
+        removeEntries(status, (key, value) -> true);
+    }
+
+    public void applyInvalidateAll() {
+        for (ExpenseStatus status : ExpenseStatus.values()) {
+            applyInvalidateStatus(status);
+        }
+    }
+
+    public ExpenseListingCacheStatsDTO getStats() {
+        CacheStats stats = cache.stats();
+        Map<ExpenseStatus, Long> invalidated = new EnumMap<>(ExpenseStatus.class);
+        invalidatedEntries.forEach((status, count) -> invalidated.put(status, count.sum()));
+
+        return new ExpenseListingCacheStatsDTO(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                invalidated
+        );
+    }
+
+    // An expense enters the listing of its new status and leaves the one of its old status
+    private static Map<ExpenseStatus, List<ExpenseCursor>> changedPositions(ExpenseChangedEvent event) {
+        Map<ExpenseStatus, List<ExpenseCursor>> positions = new EnumMap<>(ExpenseStatus.class);
+        for (ExpenseChange change : event.getChanges()) {
+            ExpenseCursor position = new ExpenseCursor(change.getCreatedAt(), change.getId());
+            if (change.getFromStatus() != null) {
+                positions.computeIfAbsent(change.getFromStatus(), status -> new ArrayList<>()).add(position);
+            }
+            if (change.getToStatus() != null) {
+                positions.computeIfAbsent(change.getToStatus(), status -> new ArrayList<>()).add(position);
+            }
+        }
+        return positions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(ExpenseListingKey key, Supplier<T> loader) {
+        AtomicLong generation = generations.get(key.getStatus());
+        long generationBefore = generation.get();
+        // Concurrent misses on one key share a single load, which is timed in the cache stats
+        T page = (T) cache.get(key, k -> loader.get());
+        // The page may predate an invalidation that missed it while it was loading; do not keep it
+        if (generation.get() != generationBefore) {
+            cache.asMap().remove(key, page);
+        }
+        return page;
+    }
+
+    private void removeEntries(ExpenseStatus status, EntryPredicate predicate) {
+        LongAdder invalidated = invalidatedEntries.get(status);
+        cache.asMap().entrySet().removeIf(entry -> {
+            ExpenseListingKey key = (ExpenseListingKey) entry.getKey();
+            boolean remove = key.getStatus() == status && predicate.test(key, entry.getValue());
+            if (remove) {
+                invalidated.increment();
+            }
+            return remove;
+        });
+    }
+
+    private static boolean affects(ExpenseListingKey key, Object page, ExpenseCursor position) {
+        if (!key.isKeysetPage()) {
+            return true;
+        }
+
+        boolean ascending = key.isAscending();
+        if (key.getCursor() != null && !isAfter(position, key.getCursor(), ascending)) {
+            return false;
+        }
+
+        CursorPage<?> keysetPage = (CursorPage<?>) page;
+        if (!keysetPage.isHasNext() || keysetPage.getContent().isEmpty()) {
+            return true;
+        }
+        ExpenseListItemDTO lastRow = (ExpenseListItemDTO) keysetPage.getContent().get(keysetPage.getContent().size() - 1);
+        return !isAfter(position, ExpenseCursor.of(lastRow), ascending);
+    }
+
+    // Whether a comes after b in the listing order on (created_at, id)
+    private static boolean isAfter(ExpenseCursor a, ExpenseCursor b, boolean ascending) {
+        int comparison = a.getCreatedAt().compareTo(b.getCreatedAt());
+        if (comparison == 0) {
+            comparison = Long.compare(a.getId(), b.getId());
+        }
+        return ascending ? comparison > 0 : comparison < 0;
+    }
+
+    @FunctionalInterface
+    private interface EntryPredicate {
+        boolean test(ExpenseListingKey key, Object page);
+    }
+}
@@ -0,0 +1,134 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Live.PendingExpenseEventDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Live.PendingQueueUpdateDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChange;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects expenses entering and leaving the pending approval queue once their transaction
+ * commits, until the live update push drains them into a single frame. The buffer is bounded;
+ * past the bound the changes are dropped and the next frame asks clients to resync.
+ * Changes are also sent over the cache bus, so managers connected to any node see them.
+ */
+@Service
+public class ExpenseLiveFeedDomainService {
+
+    private final CacheBusDomainService cacheBusDomainService;
+    private final int maxBufferedChanges;
+    private final Queue<PendingExpenseEventDTO> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> removedIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedChanges = new AtomicInteger();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
+    @Autowired
+    public ExpenseLiveFeedDomainService(CacheBusDomainService cacheBusDomainService,
+                                        @Value("${expenses.live.max-buffered-changes:1000}") int maxBufferedChanges) {
+        this.cacheBusDomainService = cacheBusDomainService;
+        this.maxBufferedChanges = maxBufferedChanges;
+    }
+
+    // In the writing transaction, so the changes go out on the cache bus when it commits
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        List<PendingExpenseEventDTO> addedEvents = enteredPending(event);
+        List<Long> leftIds = leftPending(event);
+        if (!addedEvents.isEmpty() || !leftIds.isEmpty()) {
+            cacheBusDomainService.publish(CacheBusEvent.pendingQueueChanges(addedEvents, leftIds));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void applyExpenseChanged(ExpenseChangedEvent event) {
+        List<PendingExpenseEventDTO> addedEvents = enteredPending(event);
+        List<Long> leftIds = leftPending(event);
+        if (!addedEvents.isEmpty() || !leftIds.isEmpty()) {
+            applyChanges(addedEvents, leftIds);
+        }
+    }
+
+    /**
+     * Buffers changes committed on this or another node for the next frame.
+     */
+    public void applyChanges(List<PendingExpenseEventDTO> addedEvents, List<Long> leftIds) {
+        if (reserve(addedEvents.size() + leftIds.size())) {
+            added.addAll(addedEvents);
+            removedIds.addAll(leftIds);
+        }
+    }
+
+    /**
+     * Makes the next frame ask clients to refetch the queue, for changes this node never received.
+     */
+    public void applyResync() {
+        overflowed.set(true);
+    }
+
+    /**
+     * Everything buffered since the previous call, or null when nothing changed.
+     */
+    public PendingQueueUpdateDTO drain() {
+        List<PendingExpenseEventDTO> drainedAdded = new ArrayList<>();
+        List<Long> drainedRemovedIds = new ArrayList<>();
+        PendingExpenseEventDTO event;
+        while ((event = added.poll()) != null) {
+            drainedAdded.add(event);
+        }
+        Long removedId;
+        while ((removedId = removedIds.poll()) != null) {
+            drainedRemovedIds.add(removedId);
+        }
+        bufferedChanges.addAndGet(-(drainedAdded.size() + drainedRemovedIds.size()));
+
+        if (overflowed.getAndSet(false)) {
+            return new PendingQueueUpdateDTO(List.of(), List.of(), true);
+        }
+        if (drainedAdded.isEmpty() && drainedRemovedIds.isEmpty()) {
+            return null;
+        }
+        return new PendingQueueUpdateDTO(drainedAdded, drainedRemovedIds, false);
+    }
+
+    private boolean reserve(int changes) {
+        if (bufferedChanges.addAndGet(changes) > maxBufferedChanges) {
+            bufferedChanges.addAndGet(-changes);
+            overflowed.set(true);
+            return false;
+        }
+        return true;
+    }
+
+    private static List<PendingExpenseEventDTO> enteredPending(ExpenseChangedEvent event) {
+        return event.getChanges().stream()
+                .filter(change -> change.getToStatus() == ExpenseStatus.PENDING)
+                .map(change -> new PendingExpenseEventDTO(
+                        change.getId(),
+                        change.getUserId(),
+                        change.getAmount(),
+                        change.getCategory(),
+                        change.getDate(),
+                        change.getCreatedAt()))
+                .toList();
+    }
+
+    private static List<Long> leftPending(ExpenseChangedEvent event) {
+        return event.getChanges().stream()
+                .filter(change -> change.getFromStatus() == ExpenseStatus.PENDING)
+                .map(ExpenseChange::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,219 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.ExpensePartitionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionMaintenanceDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionPruningCheckDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseArchiveRepository;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseJdbcRepository;
+import alexisTrejo.expenses.tracking.api.Repository.ExpensePartitionRepository;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseRepository;
+import alexisTrejo.expenses.tracking.api.Utils.Explain.GeneratedSqlCapture;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class ExpensePartitionDomainService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile(ExpensePartitionRepository.PARENT_TABLE + "_p(\\d{4})_(\\d{2})");
+
+    private final ExpensePartitionRepository partitionRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseJdbcRepository expenseJdbcRepository;
+    private final ExpenseArchiveRepository archiveRepository;
+    private final ExpenseListingCacheDomainService expenseListingCacheDomainService;
+    private final GeneratedSqlCapture generatedSqlCapture;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    @Autowired
+    public ExpensePartitionDomainService(ExpensePartitionRepository partitionRepository,
+                                         ExpenseRepository expenseRepository,
+                                         ExpenseJdbcRepository expenseJdbcRepository,
+                                         ExpenseArchiveRepository archiveRepository,
+                                         ExpenseListingCacheDomainService expenseListingCacheDomainService,
+                                         GeneratedSqlCapture generatedSqlCapture,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${expenses.partitioning.months-ahead:3}") int monthsAhead,
+                                         @Value("${expenses.partitioning.retention-months:0}") int retentionMonths) {
+        this.partitionRepository = partitionRepository;
+        this.expenseRepository = expenseRepository;
+        this.expenseJdbcRepository = expenseJdbcRepository;
+        this.archiveRepository = archiveRepository;
+        this.expenseListingCacheDomainService = expenseListingCacheDomainService;
+        this.generatedSqlCapture = generatedSqlCapture;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    public boolean isPartitioned() {
+        return partitionRepository.isPartitioned();
+    }
+
+    /**
+     * Turns the plain expenses table created by Hibernate into a partitioned one. This is an
+     * explicit admin step: the copy holds an ACCESS EXCLUSIVE lock on expenses until it commits.
+     * The advisory lock makes concurrent requests (from any node) wait for the first one, and the
+     * check runs after it so they then find the table partitioned instead of converting it twice.
+     */
+    public Result<Long> convert() {
+        return transactionTemplate.execute(status -> {
+            partitionRepository.lockForConversion();
+            if (partitionRepository.isPartitioned()) {
+                return Result.error("Expenses Are Already Partitioned", HttpStatus.CONFLICT);
+            }
+
+            YearMonth lastMonth = YearMonth.now().plusMonths(monthsAhead);
+            long copiedRows = partitionRepository.convertToPartitioned(lastMonth);
+            log.info("Converted expenses to monthly partitions on created_at, {} rows copied", copiedRows);
+            return Result.success(copiedRows);
+        });
+    }
+
+    // Under the conversion lock, so nodes starting together do not replace the same functions concurrently
+    public void installReferenceTriggers() {
+        transactionTemplate.executeWithoutResult(status -> {
+            partitionRepository.lockForConversion();
+            partitionRepository.installReferenceTriggers();
+        });
+    }
+
+    /**
+     * Keeps monthsAhead empty partitions ready so inserts never hit a missing range, and when
+     * a retention is configured folds partitions older than it into expenses_archive, together
+     * with their attachments and reimbursements, where the admin archive endpoints read them.
+     * The rows keep counting in the rollups and dashboard totals like any other archived row.
+     */
+    public PartitionMaintenanceDTO maintain() {
+        if (!partitionRepository.isPartitioned()) {
+            return new PartitionMaintenanceDTO(List.of(), List.of());
+        }
+
+        return transactionTemplate.execute(status -> {
+            Set<YearMonth> existingMonths = new HashSet<>();
+            for (String partitionName : partitionRepository.findPartitionNames()) {
+                YearMonth month = parseMonth(partitionName);
+                if (month != null) {
+                    existingMonths.add(month);
+                }
+            }
+
+            List<String> createdPartitions = new ArrayList<>();
+            YearMonth currentMonth = YearMonth.now();
+            for (YearMonth month = currentMonth; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+                if (!existingMonths.contains(month)) {
+                    partitionRepository.createPartition(month);
+                    createdPartitions.add(ExpensePartitionRepository.partitionName(month));
+                }
+            }
+
+            List<String> archivedPartitions = new ArrayList<>();
+            if (retentionMonths > 0) {
+                YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+                existingMonths.stream()
+                        .filter(month -> month.isBefore(oldestKept))
+                        .sorted()
+                        .forEach(month -> {
+                            archivePartition(month);
+                            archivedPartitions.add(ExpensePartitionRepository.partitionName(month));
+                        });
+            }
+
+            if (!archivedPartitions.isEmpty()) {
+                for (ExpenseStatus expenseStatus : ExpenseStatus.values()) {
+                    expenseListingCacheDomainService.invalidateStatus(expenseStatus);
+                }
+            }
+            if (!createdPartitions.isEmpty() || !archivedPartitions.isEmpty()) {
+                log.info("Expense partitions created {}, archived {}", createdPartitions, archivedPartitions);
+            }
+            return new PartitionMaintenanceDTO(createdPartitions, archivedPartitions);
+        });
+    }
+
+    private void archivePartition(YearMonth month) {
+        String partitionName = ExpensePartitionRepository.partitionName(month);
+        partitionRepository.detachPartition(month);
+        int archivedRows = archiveRepository.archiveTable(partitionName);
+        partitionRepository.dropTable(partitionName);
+        archiveRepository.deleteArchivedChildren(month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        log.info("Archived partition {} with {} expenses", partitionName, archivedRows);
+    }
+
+    public List<ExpensePartitionDTO> getPartitions() {
+        return partitionRepository.findPartitions();
+    }
+
+    /**
+     * Runs ExpenseRepository queries once with bound values, explains the SQL Hibernate generated
+     * for each and counts the partitions left in the plan. The all-time dashboard query is the
+     * reference that can never prune; an id lookup carries no created_at and probes every partition.
+     */
+    public List<PartitionPruningCheckDTO> checkPruning() {
+        List<String> partitionNames = partitionRepository.findPartitionNames();
+        YearMonth currentMonth = YearMonth.now();
+        LocalDateTime monthStart = currentMonth.atDay(1).atStartOfDay();
+        LocalDateTime monthEnd = currentMonth.atEndOfMonth().atTime(23, 59, 59);
+        LocalDateTime cursor = LocalDateTime.now().minusMonths(1);
+
+        List<PartitionPruningCheckDTO> checks = new ArrayList<>();
+        checks.add(pruningCheck("getExpenseSummaryGroupedByStatus (current month)", partitionNames,
+                () -> expenseRepository.getExpenseSummaryGroupedByStatus(monthStart, monthEnd),
+                monthStart, monthEnd));
+        checks.add(pruningCheck("findByStatusKeysetAfterDesc (cursor one month back)", partitionNames,
+                () -> expenseRepository.findByStatusKeysetAfterDesc(ExpenseStatus.PENDING, cursor, Long.MAX_VALUE, PageRequest.ofSize(21)),
+                ExpenseStatus.PENDING, cursor, Long.MAX_VALUE, cursor, 21));
+        checks.add(pruningCheck("findById (id lookup)", partitionNames,
+                () -> expenseRepository.findById(0L),
+                0L));
+        checks.add(pruningCheck("getDashboardStatsRaw (all time)", partitionNames,
+                expenseRepository::getDashboardStatsRaw));
+        return checks;
+    }
+
+    private PartitionPruningCheckDTO pruningCheck(String query, List<String> partitionNames, Runnable repositoryCall, Object... params) {
+        String sql = generatedSqlCapture.capture(repositoryCall);
+        List<String> plan = expenseJdbcRepository.explain(sql, Arrays.asList(params));
+
+        // Partition names are built from a YearMonth (or the fixed default), safe inside a pattern
+        Pattern partitionInPlan = Pattern.compile("\\b(" + String.join("|", partitionNames) + ")\\b");
+        Set<String> scannedPartitions = new HashSet<>();
+        for (String line : plan) {
+            Matcher matcher = partitionInPlan.matcher(line);
+            while (!partitionNames.isEmpty() && matcher.find()) {
+                scannedPartitions.add(matcher.group(1));
+            }
+        }
+
+        int scanned = scannedPartitions.size();
+        return new PartitionPruningCheckDTO(query, partitionNames.size(), scanned, scanned < partitionNames.size(), plan);
+    }
+
+    private static YearMonth parseMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -0,0 +1,96 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Models.ExpenseDailyRollupId;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseDailyRollupRepository;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChange;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps expense_daily_rollups in step with the expenses table. Expense changes are applied as
+ * they are published, inside the writing transaction, so a rollup delta commits or rolls back
+ * together with the expense write.
+ */
+@Slf4j
+@Service
+public class ExpenseRollupDomainService {
+
+    private final ExpenseDailyRollupRepository rollupRepository;
+
+    @Autowired
+    public ExpenseRollupDomainService(ExpenseDailyRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Applies the changes with one upsert per (day, status, category) instead of per expense.
+     */
+    @EventListener
+    @Transactional
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        Map<ExpenseDailyRollupId, double[]> deltas = new HashMap<>();
+        for (ExpenseChange change : event.getChanges()) {
+            addDelta(deltas, change, change.getFromStatus(), -1);
+            addDelta(deltas, change, change.getToStatus(), 1);
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        rollupRepository.lockForDelta();
+        deltas.forEach((key, delta) ->
+                rollupRepository.applyDelta(key.getRollupDay(), key.getStatus().name(), key.getCategory().name(), (long) delta[0], delta[1]));
+    }
+
+    /**
+     * Recomputes the rollups of the given day range from the source expenses rows,
+     * correcting any drift caused by writes that bypassed the service layer.
+     */
+    @Transactional
+    public int rebuild(LocalDate startDay, LocalDate endDay) {
+        // Waits for the deltas in flight to commit and holds new ones back until the rebuild commits
+        rollupRepository.lockForRebuild();
+        int deletedRows = rollupRepository.deleteByDayRange(startDay, endDay);
+        int insertedRows = rollupRepository.insertFromExpenses(startDay.atStartOfDay(), endDay.plusDays(1).atStartOfDay());
+
+        log.info("Expense rollups rebuilt from {} to {}: {} rows replaced by {}", startDay, endDay, deletedRows, insertedRows);
+        return insertedRows;
+    }
+
+    /**
+     * Fills the rollups from all expenses when the table is still empty, e.g. on the first start
+     * after they were introduced. Under the rebuild lock, so of several nodes starting together
+     * only the first one fills it.
+     */
+    @Transactional
+    public boolean backfillIfEmpty() {
+        rollupRepository.lockForRebuild();
+        if (rollupRepository.hasRollups()) {
+            return false;
+        }
+
+        int insertedRows = rollupRepository.insertAllFromExpenses();
+        log.info("Expense rollups backfilled with {} rows", insertedRows);
+        return insertedRows > 0;
+    }
+
+    private static void addDelta(Map<ExpenseDailyRollupId, double[]> deltas, ExpenseChange change, ExpenseStatus status, int sign) {
+        if (status == null) {
+            return;
+        }
+        ExpenseDailyRollupId key = new ExpenseDailyRollupId(change.getCreatedAt().toLocalDate(), status, change.getCategory());
+        double[] delta = deltas.computeIfAbsent(key, k -> new double[2]);
+        delta[0] += sign;
+        delta[1] += sign * change.getAmount();
+    }
+}
@@ -0,0 +1,156 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.AdminDashboardDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseDailyRollupRepository;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseRepository;
+import alexisTrejo.expenses.tracking.api.Utils.CacheBus.CacheBusEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChange;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live count of expenses per status behind the admin dashboard, counted like the rollups
+ * (soft-deleted rows excluded, archived ones that were not deleted included).
+ * Seeded from the daily rollups, moved by every status change once it commits (on every node, through
+ * the cache bus) and periodically reconciled, so reading the dashboard never touches the
+ * database. LongAdder keeps concurrent approvals from contending on a single counter.
+ */
+@Slf4j
+@Service
+public class ExpenseStatusCounterDomainService {
+
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseDailyRollupRepository rollupRepository;
+    private final CacheBusDomainService cacheBusDomainService;
+    private final Map<ExpenseStatus, LongAdder> statusCounts = new EnumMap<>(ExpenseStatus.class);
+    // Approved expenses without a reimbursement; only moved by transitions into and out of APPROVED
+    private final LongAdder pendingReimbursements = new LongAdder();
+    private volatile boolean seeded;
+
+    @Autowired
+    public ExpenseStatusCounterDomainService(ExpenseRepository expenseRepository,
+                                             ExpenseDailyRollupRepository rollupRepository,
+                                             CacheBusDomainService cacheBusDomainService) {
+        this.expenseRepository = expenseRepository;
+        this.rollupRepository = rollupRepository;
+        this.cacheBusDomainService = cacheBusDomainService;
+        for (ExpenseStatus status : ExpenseStatus.values()) {
+            statusCounts.put(status, new LongAdder());
+        }
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    // In the writing transaction, so the deltas go out on the cache bus when it commits
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        Map<ExpenseStatus, Long> deltas = deltas(event);
+        if (!deltas.isEmpty()) {
+            cacheBusDomainService.publish(CacheBusEvent.statusDeltas(deltas));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void applyExpenseChanged(ExpenseChangedEvent event) {
+        applyDeltas(deltas(event));
+    }
+
+    /**
+     * Applies deltas committed on this or another node to the local counters only.
+     */
+    public void applyDeltas(Map<ExpenseStatus, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public AdminDashboardDTO getDashboard() {
+        long pending = statusCounts.get(ExpenseStatus.PENDING).sum();
+        long approved = statusCounts.get(ExpenseStatus.APPROVED).sum();
+        long rejected = statusCounts.get(ExpenseStatus.REJECTED).sum();
+        long reimbursed = statusCounts.get(ExpenseStatus.REIMBURSED).sum();
+
+        return AdminDashboardDTO.builder()
+                .totalExpenses(Math.toIntExact(pending + approved + rejected + reimbursed))
+                .pendingExpenses(Math.toIntExact(pending))
+                .totalApprovedExpenses(Math.toIntExact(approved))
+                .totalRejectedExpenses(Math.toIntExact(rejected))
+                .totalReimbursementExpenses(Math.toIntExact(reimbursed))
+                .pendingReimbursements(Math.toIntExact(pendingReimbursements.sum()))
+                .build();
+    }
+
+    /**
+     * Replaces the counters with the totals of the daily rollups, which are maintained by the same
+     * status changes, so this sums a few rows per day instead of counting every expense. The
+     * pending reimbursements are not in the rollups and are counted from a partial index.
+     * Changes that commit while the counts are read may be applied twice or missed; the next run
+     * settles them.
+     */
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        // Until ExpenseRollupBackfillJob has filled the rollups the dashboard keeps reading the database
+        if (!rollupRepository.hasRollups()) {
+            return;
+        }
+
+        Map<ExpenseStatus, Long> counted = new EnumMap<>(ExpenseStatus.class);
+        List<Object[]> rows = rollupRepository.countByStatus();
+        for (Object[] row : rows) {
+            counted.put(ExpenseStatus.valueOf(row[0].toString()), ((Number) row[1]).longValue());
+        }
+        long countedPendingReimbursements = expenseRepository.countPendingReimbursement();
+
+        boolean drifted = false;
+        for (ExpenseStatus status : ExpenseStatus.values()) {
+            drifted |= reset(statusCounts.get(status), counted.getOrDefault(status, 0L));
+        }
+        drifted |= reset(pendingReimbursements, countedPendingReimbursements);
+
+        if (seeded && drifted) {
+            log.warn("Expense status counters drifted from the database and were corrected");
+        }
+        seeded = true;
+    }
+
+    private void add(ExpenseStatus status, long delta) {
+        statusCounts.get(status).add(delta);
+        if (status == ExpenseStatus.APPROVED) {
+            pendingReimbursements.add(delta);
+        }
+    }
+
+    private static Map<ExpenseStatus, Long> deltas(ExpenseChangedEvent event) {
+        Map<ExpenseStatus, Long> deltas = new EnumMap<>(ExpenseStatus.class);
+        for (ExpenseChange change : event.getChanges()) {
+            if (change.getFromStatus() != null) {
+                deltas.merge(change.getFromStatus(), -1L, Long::sum);
+            }
+            if (change.getToStatus() != null) {
+                deltas.merge(change.getToStatus(), 1L, Long::sum);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    // Moves the adder to the target with one add, so concurrent increments are not lost
+    private static boolean reset(LongAdder adder, long target) {
+        long delta = target - adder.sum();
+        if (delta != 0) {
+            adder.add(delta);
+        }
+        return delta != 0;
+    }
+}
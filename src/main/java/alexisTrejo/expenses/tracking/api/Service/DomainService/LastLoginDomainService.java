@@ -0,0 +1,65 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Repository.UserJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind for users.last_login. Logins only note the time in memory; LastLoginFlushJob
+ * writes everything noted since the last flush in one batched update, and the rest is written
+ * when the application shuts down. Several logins of one user between flushes become one row.
+ * A crash loses at most one flush interval of login times, which are informational only.
+ */
+@Slf4j
+@Service
+public class LastLoginDomainService {
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final Map<Long, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LastLoginDomainService(UserJdbcRepository userJdbcRepository) {
+        this.userJdbcRepository = userJdbcRepository;
+    }
+
+    public void recordLogin(Long userId, LocalDateTime loginTime) {
+        pendingLogins.merge(userId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    // synchronized so the shutdown flush never overlaps a scheduled one
+    public synchronized int flush() {
+        if (pendingLogins.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        // remove() takes each entry atomically, so a login recorded meanwhile waits for the next flush
+        for (Long userId : pendingLogins.keySet()) {
+            LocalDateTime loginTime = pendingLogins.remove(userId);
+            if (loginTime != null) {
+                batch.put(userId, loginTime);
+            }
+        }
+
+        try {
+            return userJdbcRepository.updateLastLogins(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(this::recordLogin);
+            log.warn("Could not flush {} last login times, retrying with the next flush: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int updated = flush();
+        log.info("Flushed {} last login times on shutdown", updated);
+    }
+}
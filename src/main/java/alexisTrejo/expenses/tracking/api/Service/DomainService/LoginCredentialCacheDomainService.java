@@ -0,0 +1,97 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
+import alexisTrejo.expenses.tracking.api.Mappers.UserMapper;
+import alexisTrejo.expenses.tracking.api.Repository.UserRepository;
+import alexisTrejo.expenses.tracking.api.Utils.Cache.LoginCredentials;
+import alexisTrejo.expenses.tracking.api.Utils.Transactions.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Login fast path. Keeps the user snapshot and BCrypt hash per email, so repeat logins skip the
+ * findByEmail query while every attempt is still checked against the hash; emails with no user
+ * are cached as such. Emails that fail expenses.login.max-failed-attempts times in a row are
+ * locked for expenses.login.lockout-minutes, and attempts on a locked email cost neither a query
+ * nor a hash. Evictions reach the other nodes through the cache bus; failure counts stay local.
+ */
+@Service
+public class LoginCredentialCacheDomainService {
+
+    private final org.springframework.cache.Cache credentialsCache;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Cache<String, FailedLogins> failedLogins;
+    private final int maxFailedAttempts;
+    private final Duration lockoutDuration;
+
+    @Autowired
+    public LoginCredentialCacheDomainService(CacheManager cacheManager,
+                                             UserRepository userRepository,
+                                             UserMapper userMapper,
+                                             @Value("${expenses.login.max-failed-attempts:5}") int maxFailedAttempts,
+                                             @Value("${expenses.login.lockout-minutes:15}") long lockoutMinutes,
+                                             @Value("${expenses.login.max-tracked-emails:100000}") long maxTrackedEmails) {
+        this.credentialsCache = cacheManager.getCache(CacheConfig.USER_CREDENTIALS_CACHE);
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.maxFailedAttempts = maxFailedAttempts;
+        this.lockoutDuration = Duration.ofMinutes(lockoutMinutes);
+        // A failure streak is forgotten once no attempt failed for a whole lockout period
+        this.failedLogins = Caffeine.newBuilder()
+                .maximumSize(maxTrackedEmails)
+                .expireAfterWrite(lockoutDuration)
+                .build();
+    }
+
+    public LoginCredentials getCredentials(String email) {
+        return credentialsCache.get(email, () -> userRepository.findByEmail(email)
+                .map(user -> new LoginCredentials(userMapper.entityToDTO(user)))
+                .orElseGet(LoginCredentials::unknownEmail));
+    }
+
+    public boolean isLocked(String email) {
+        FailedLogins failures = failedLogins.getIfPresent(lockoutKey(email));
+        return failures != null && failures.isLocked(System.currentTimeMillis());
+    }
+
+    public void recordFailure(String email) {
+        long now = System.currentTimeMillis();
+        failedLogins.asMap().compute(lockoutKey(email), (key, failures) -> {
+            // A lockout that ran out starts a new streak
+            int count = failures == null || failures.lockedUntilMillis() != 0 ? 1 : failures.count() + 1;
+            long lockedUntilMillis = count >= maxFailedAttempts ? now + lockoutDuration.toMillis() : 0;
+            return new FailedLogins(count, lockedUntilMillis);
+        });
+    }
+
+    public void recordSuccess(String email) {
+        failedLogins.invalidate(lockoutKey(email));
+    }
+
+    /**
+     * Drops the cached credentials once the change to the user commits, on every node.
+     */
+    public void evict(String email) {
+        AfterCommit.run(() -> credentialsCache.evict(email));
+    }
+
+    // Case variations of one address share their failure count
+    private static String lockoutKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record FailedLogins(int count, long lockedUntilMillis) {
+
+        boolean isLocked(long now) {
+            return lockedUntilMillis > now;
+        }
+    }
+}
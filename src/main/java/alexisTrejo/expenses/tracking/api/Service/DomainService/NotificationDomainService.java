@@ -13,6 +13,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -50,12 +56,45 @@ public class NotificationDomainService {
         return notification;
     }
 
+    /**
+     * Batch variant for bulk decisions: users are loaded with one IN query and the
+     * notifications are written with a single saveAll instead of one round trip per expense.
+     */
+    @Transactional
+    public List<Notification> createNotificationsFromExpenses(List<ExpenseDTO> expenseDTOs) {
+        Set<Long> userIds = expenseDTOs.stream().map(ExpenseDTO::getUserId).collect(Collectors.toSet());
+        Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>();
+        for (ExpenseDTO expenseDTO : expenseDTOs) {
+            User user = usersById.get(expenseDTO.getUserId());
+            if (user == null) {
+                continue;
+            }
+
+            notifications.add(Notification.builder()
+                    .createdAt(now)
+                    .type(mapExpenseStatusToNotificationType(expenseDTO.getStatus()))
+                    .read(Boolean.FALSE)
+                    .user(user)
+                    .message(generateNotificationMessage(expenseDTO))
+                    .build());
+        }
+
+        List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+        notificationRepository.flush();
+
+        return savedNotifications;
+    }
+
     private NotificationType mapExpenseStatusToNotificationType(ExpenseStatus status) {
         return switch (status) {
             case PENDING -> NotificationType.EXPENSE_REJECTION;
             case APPROVED -> NotificationType.EXPENSE_APPROVAL;
+            case REJECTED -> NotificationType.EXPENSE_REJECTION;
             case REIMBURSED -> NotificationType.REIMBURSEMENT_COMPLETED;
-            default -> throw new IllegalArgumentException("Unexpected status: " + status);
         };
     }
 
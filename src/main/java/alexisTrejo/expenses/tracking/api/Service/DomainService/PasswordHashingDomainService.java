@@ -0,0 +1,122 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.PasswordHashingStatsDTO;
+import alexisTrejo.expenses.tracking.api.Middleware.PasswordHandler;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on the bounded passwordHashingExecutor. The request thread waits at most
+ * expenses.password-hashing.max-wait-ms for its turn and its hash; when the queue is full or the
+ * wait runs out the caller gets a 503 right away, so a burst of logins cannot occupy every
+ * request thread. Queue wait and hash time are recorded for the admin stats.
+ */
+@Slf4j
+@Service
+public class PasswordHashingDomainService {
+
+    private static final String SATURATED_MESSAGE = "Too Many Logins In Progress, Try Again Shortly";
+
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final long maxWaitMs;
+
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder timedOutTasks = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Long::max, 0);
+
+    @Autowired
+    public PasswordHashingDomainService(@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                        @Value("${expenses.password-hashing.max-wait-ms:3000}") long maxWaitMs) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public Result<String> hash(String plainPassword) {
+        return run(() -> PasswordHandler.hashPassword(plainPassword));
+    }
+
+    public Result<Boolean> verify(String plainPassword, String hashedPassword) {
+        return run(() -> PasswordHandler.validatePassword(plainPassword, hashedPassword));
+    }
+
+    public PasswordHashingStatsDTO getStats() {
+        long completed = completedTasks.sum();
+        return PasswordHashingStatsDTO.builder()
+                .threads(passwordHashingExecutor.getMaxPoolSize())
+                .activeThreads(passwordHashingExecutor.getActiveCount())
+                .queuedTasks(passwordHashingExecutor.getQueueSize())
+                .queueCapacity(passwordHashingExecutor.getQueueCapacity())
+                .completedTasks(completed)
+                .rejectedTasks(rejectedTasks.sum())
+                .timedOutTasks(timedOutTasks.sum())
+                .averageQueueWaitMs(completed > 0 ? toMillis(totalQueueWaitNanos.sum()) / completed : 0)
+                .maxQueueWaitMs(toMillis(maxQueueWaitNanos.get()))
+                .averageHashTimeMs(completed > 0 ? toMillis(totalHashNanos.sum()) / completed : 0)
+                .maxHashTimeMs(toMillis(maxHashNanos.get()))
+                .build();
+    }
+
+    private <T> Result<T> run(Supplier<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = passwordHashingExecutor.submit(() -> {
+                long startedAt = System.nanoTime();
+                record(totalQueueWaitNanos, maxQueueWaitNanos, startedAt - submittedAt);
+                try {
+                    return hashing.get();
+                } finally {
+                    record(totalHashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                    completedTasks.increment();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedTasks.increment();
+            return Result.error(SATURATED_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return Result.success(future.get(maxWaitMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // A task still queued is skipped when its turn comes; one already hashing just finishes
+            future.cancel(false);
+            timedOutTasks.increment();
+            return Result.error(SATURATED_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            return Result.error(SATURATED_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            log.error("Password hashing failed", e.getCause());
+            return Result.error("Password Could Not Be Processed", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static void record(LongAdder total, LongAccumulator max, long nanos) {
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,115 @@
+package alexisTrejo.expenses.tracking.api.Service.DomainService;
+
+import alexisTrejo.expenses.tracking.api.Repository.RefreshTokenRepository;
+import alexisTrejo.expenses.tracking.api.Repository.RefreshTokenRepository.UsedRefreshToken;
+import alexisTrejo.expenses.tracking.api.Utils.Auth.RefreshTokenGrant;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens that rotate on every use. Each login starts a family; a refresh claims
+ * the presented token and issues its successor in the same family. Presenting a token that was
+ * already rotated means it leaked (or was replayed), so the whole family is revoked and the
+ * user has to log in again.
+ * Tokens known to be unusable are remembered per node. Nothing brings such a token back, so that
+ * index never needs to hear from the other nodes, and replays cost no query.
+ */
+@Slf4j
+@Service
+public class RefreshTokenDomainService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long validitySeconds;
+    private final Cache<String, Boolean> deadTokens;
+
+    @Autowired
+    public RefreshTokenDomainService(RefreshTokenRepository refreshTokenRepository,
+                                     @Value("${expenses.auth.refresh-token-validity-days:14}") long validityDays,
+                                     @Value("${expenses.auth.max-dead-refresh-tokens:100000}") long maxDeadTokens) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.validitySeconds = Duration.ofDays(validityDays).toSeconds();
+        // Past the validity every dead token would be rejected as expired anyway
+        this.deadTokens = Caffeine.newBuilder()
+                .maximumSize(maxDeadTokens)
+                .expireAfterWrite(Duration.ofDays(validityDays))
+                .build();
+    }
+
+    @Transactional
+    public String issue(Long userId, String email, String role) {
+        return insert(UUID.randomUUID(), userId, email, role);
+    }
+
+    @Transactional
+    public Result<RefreshTokenGrant> rotate(String refreshToken) {
+        byte[] tokenHash = hash(refreshToken);
+        String deadTokenKey = Base64.getEncoder().encodeToString(tokenHash);
+        if (deadTokens.getIfPresent(deadTokenKey) != null) {
+            return Result.error("Invalid Refresh Token", HttpStatus.UNAUTHORIZED);
+        }
+
+        Optional<UsedRefreshToken> usedToken = refreshTokenRepository.markUsed(tokenHash);
+        if (usedToken.isEmpty()) {
+            deadTokens.put(deadTokenKey, Boolean.TRUE);
+            Optional<UUID> reusedFamily = refreshTokenRepository.findUsedTokenFamily(tokenHash);
+            if (reusedFamily.isPresent()) {
+                int revoked = refreshTokenRepository.deleteFamily(reusedFamily.get());
+                log.warn("Refresh token reused, revoked its family {} ({} tokens)", reusedFamily.get(), revoked);
+                return Result.error("Refresh Token Already Used, Please Log In Again", HttpStatus.UNAUTHORIZED);
+            }
+            return Result.error("Invalid Refresh Token", HttpStatus.UNAUTHORIZED);
+        }
+
+        UsedRefreshToken used = usedToken.get();
+        String nextToken = insert(used.familyId(), used.userId(), used.email(), used.role());
+        return Result.success(new RefreshTokenGrant(nextToken, used.userId(), used.email(), used.role()));
+    }
+
+    /**
+     * Logs the user out everywhere, for changes to the user the stored tokens would not reflect.
+     */
+    public void revokeUser(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        return refreshTokenRepository.deleteExpired();
+    }
+
+    private String insert(UUID familyId, Long userId, String email, String role) {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(tokenBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        refreshTokenRepository.insert(hash(refreshToken), familyId, userId, email, role, validitySeconds);
+        return refreshToken;
+    }
+
+    private static byte[] hash(String refreshToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,19 +1,45 @@
 package alexisTrejo.expenses.tracking.api.Service.Implementations;
 
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.AmountHistogramBucketDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.TopSpenderDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.CacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.ExpenseListingCacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.PasswordHashingStatsDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.AdminDashboardDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.DashboardStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ArchivedExpenseDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.ExpensePartitionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionMaintenanceDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionPruningCheckDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Settings.SettingsDTO;
 import alexisTrejo.expenses.tracking.api.Models.AdminSettings;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseArchiveRepository;
 import alexisTrejo.expenses.tracking.api.Repository.ExpenseRepository;
 import alexisTrejo.expenses.tracking.api.Repository.ReimbursementRepository;
 import alexisTrejo.expenses.tracking.api.Repository.SettingsRepository;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.CacheInspectionDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.PasswordHashingDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseAnalyticsDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseArchiveDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseListingCacheDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpensePartitionDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseRollupDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseStatusCounterDomainService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.AdminService;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -22,20 +48,59 @@ public class AdminServiceImpl implements AdminService {
     private final SettingsRepository settingsRepository;
     private final ExpenseRepository expenseRepository;
     private final ReimbursementRepository reimbursementRepository;
+    private final ExpenseRollupDomainService expenseRollupDomainService;
+    private final ExpensePartitionDomainService expensePartitionDomainService;
+    private final ExpenseArchiveDomainService expenseArchiveDomainService;
+    private final ExpenseArchiveRepository expenseArchiveRepository;
+    private final ExpenseAnalyticsDomainService expenseAnalyticsDomainService;
+    private final ExpenseStatusCounterDomainService expenseStatusCounterDomainService;
+    private final ExpenseListingCacheDomainService expenseListingCacheDomainService;
+    private final CacheInspectionDomainService cacheInspectionDomainService;
+    private final PasswordHashingDomainService passwordHashingDomainService;
 
     @Autowired
     public AdminServiceImpl(SettingsRepository settingsRepository,
-                            ExpenseRepository expenseRepository, ReimbursementRepository reimbursementRepository) {
+                            ExpenseRepository expenseRepository, ReimbursementRepository reimbursementRepository,
+                            ExpenseRollupDomainService expenseRollupDomainService,
+                            ExpensePartitionDomainService expensePartitionDomainService,
+                            ExpenseArchiveDomainService expenseArchiveDomainService,
+                            ExpenseArchiveRepository expenseArchiveRepository,
+                            ExpenseAnalyticsDomainService expenseAnalyticsDomainService,
+                            ExpenseStatusCounterDomainService expenseStatusCounterDomainService,
+                            ExpenseListingCacheDomainService expenseListingCacheDomainService,
+                            CacheInspectionDomainService cacheInspectionDomainService,
+                            PasswordHashingDomainService passwordHashingDomainService) {
         this.settingsRepository = settingsRepository;
         this.expenseRepository = expenseRepository;
         this.reimbursementRepository = reimbursementRepository;
+        this.expenseRollupDomainService = expenseRollupDomainService;
+        this.expensePartitionDomainService = expensePartitionDomainService;
+        this.expenseArchiveDomainService = expenseArchiveDomainService;
+        this.expenseArchiveRepository = expenseArchiveRepository;
+        this.expenseAnalyticsDomainService = expenseAnalyticsDomainService;
+        this.expenseStatusCounterDomainService = expenseStatusCounterDomainService;
+        this.expenseListingCacheDomainService = expenseListingCacheDomainService;
+        this.cacheInspectionDomainService = cacheInspectionDomainService;
+        this.passwordHashingDomainService = passwordHashingDomainService;
     }
 
     @Override
-    @Cacheable("adminDashboardCache")
     public AdminDashboardDTO getAdminDashboard() {
-        DashboardStatsDTO statsDTO = getDashboardStats();
-        int pendingReimbursements = expenseRepository.countPendingReimbursement();
+        // Constant time and always current once the counters are seeded at startup
+        if (expenseStatusCounterDomainService.isSeeded()) {
+            return expenseStatusCounterDomainService.getDashboard();
+        }
+
+        DashboardStatsDTO statsDTO;
+        int pendingReimbursements;
+        if (expenseAnalyticsDomainService.isServing()) {
+            // Reimbursing moves an expense to REIMBURSED, so every APPROVED one is still awaiting it
+            statsDTO = expenseAnalyticsDomainService.getDashboardStats();
+            pendingReimbursements = statsDTO.getTotalApprovedExpenses();
+        } else {
+            statsDTO = getDashboardStats();
+            pendingReimbursements = expenseRepository.countPendingReimbursement();
+        }
 
         return AdminDashboardDTO.builder()
                 .totalExpenses(statsDTO.getTotalExpenses())
@@ -49,6 +114,7 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.ADMIN_SETTINGS_CACHE, allEntries = true)
     public void updateSettings(SettingsDTO settingsDTO) {
         List<AdminSettings> adminSettings = settingsRepository.findAll();
 
@@ -66,7 +132,7 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    @Cacheable("adminSettingsCache")
+    @Cacheable(value = CacheConfig.ADMIN_SETTINGS_CACHE, sync = true)
     public SettingsDTO getCurrentSettings() {
         List<AdminSettings> adminSettings = settingsRepository.findAll();
         AdminSettings currentSettings  = adminSettings.get(0);
@@ -74,6 +140,96 @@ public class AdminServiceImpl implements AdminService {
         return new SettingsDTO(currentSettings.getMaxExpenseLimit(), currentSettings.getAllowedCategories());
     }
 
+    @Override
+    @CacheEvict(value = CacheConfig.EXPENSE_SUMMARY_CACHE, allEntries = true)
+    public int rebuildExpenseRollups(LocalDate startDay, LocalDate endDay) {
+        return expenseRollupDomainService.rebuild(startDay, endDay);
+    }
+
+    @Override
+    public List<ExpensePartitionDTO> getExpensePartitions() {
+        return expensePartitionDomainService.getPartitions();
+    }
+
+    @Override
+    public PartitionMaintenanceDTO maintainExpensePartitions() {
+        return expensePartitionDomainService.maintain();
+    }
+
+    @Override
+    public Result<Long> convertExpensesToPartitions() {
+        return expensePartitionDomainService.convert();
+    }
+
+    @Override
+    public List<PartitionPruningCheckDTO> checkExpensePartitionPruning() {
+        return expensePartitionDomainService.checkPruning();
+    }
+
+    @Override
+    public Page<ArchivedExpenseDTO> getArchivedExpenses(Long userId, Pageable pageable) {
+        List<ArchivedExpenseDTO> archivedExpenses = expenseArchiveRepository.findPage(userId, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(archivedExpenses, pageable, expenseArchiveRepository.count(userId));
+    }
+
+    @Override
+    public Result<ArchivedExpenseDTO> getArchivedExpenseById(Long expenseId) {
+        return expenseArchiveRepository.findById(expenseId)
+                .map(Result::success)
+                .orElseGet(() -> Result.error("Archived Expense With Id(" + expenseId + ") not found", HttpStatus.NOT_FOUND));
+    }
+
+    @Override
+    public long archiveColdExpenses() {
+        return expenseArchiveDomainService.archiveColdExpenses();
+    }
+
+    @Override
+    public Result<List<AmountHistogramBucketDTO>> getExpenseAmountHistogram(LocalDate startDay, LocalDate endDay, double bucketWidth, int buckets) {
+        if (!expenseAnalyticsDomainService.isServing()) {
+            return analyticsUnavailable();
+        }
+        return Result.success(expenseAnalyticsDomainService.getAmountHistogram(startDay, endDay, bucketWidth, buckets));
+    }
+
+    @Override
+    public Result<List<TopSpenderDTO>> getTopSpenders(LocalDate startDay, LocalDate endDay, int limit) {
+        if (!expenseAnalyticsDomainService.isServing()) {
+            return analyticsUnavailable();
+        }
+        return Result.success(expenseAnalyticsDomainService.getTopSpenders(startDay, endDay, limit));
+    }
+
+    @Override
+    public Result<Integer> reloadExpenseAnalytics() {
+        if (!expenseAnalyticsDomainService.isEnabled()) {
+            return analyticsUnavailable();
+        }
+        return Result.success(expenseAnalyticsDomainService.reload());
+    }
+
+    @Override
+    public ExpenseListingCacheStatsDTO getExpenseListingCacheStats() {
+        return expenseListingCacheDomainService.getStats();
+    }
+
+    @Override
+    public List<CacheStatsDTO> getCacheStats() {
+        return cacheInspectionDomainService.getCacheStats();
+    }
+
+    @Override
+    public PasswordHashingStatsDTO getPasswordHashingStats() {
+        return passwordHashingDomainService.getStats();
+    }
+
+    private <T> Result<T> analyticsUnavailable() {
+        String reason = expenseAnalyticsDomainService.isEnabled()
+                ? "Expense Analytics Store Is Still Loading"
+                : "Expense Analytics Store Is Disabled (expenses.analytics.backend=database)";
+        return Result.error(reason, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     private DashboardStatsDTO getDashboardStats() {
         List<Object[]> results = expenseRepository.getDashboardStatsRaw();
         if (results.isEmpty()) {
@@ -9,6 +9,7 @@ import alexisTrejo.expenses.tracking.api.Service.Interfaces.AttachmentService;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,8 +28,9 @@ public class AttachmentServiceImpl implements AttachmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Result<List<AttachmentDTO>> getAttachmentsByExpenseId(Long expenseId) {
-            Optional<Expense> optionalExpense = expenseRepository.findById(expenseId);
+            Optional<Expense> optionalExpense = expenseRepository.findWithAttachmentsById(expenseId);
              return optionalExpense.map(expense -> {
                         List<AttachmentDTO> attachmentDTOS = expense.getExpenseAttachments()
                                 .stream()
@@ -1,20 +1,28 @@
 package alexisTrejo.expenses.tracking.api.Service.Implementations;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.AuthTokensDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.LoginDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.User.UserDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.UserInsertDTO;
 import alexisTrejo.expenses.tracking.api.Mappers.UserMapper;
 import alexisTrejo.expenses.tracking.api.Middleware.JWTSecurity;
-import alexisTrejo.expenses.tracking.api.Middleware.PasswordHandler;
 import alexisTrejo.expenses.tracking.api.Models.User;
 import alexisTrejo.expenses.tracking.api.Repository.UserRepository;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.LastLoginDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.LoginCredentialCacheDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.PasswordHashingDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.RefreshTokenDomainService;
+import alexisTrejo.expenses.tracking.api.Utils.Auth.RefreshTokenGrant;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.AuthService;
+import alexisTrejo.expenses.tracking.api.Utils.Cache.LoginCredentials;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -23,14 +31,26 @@ public class AuthServiceImpl implements AuthService {
     private final UserMapper userMapper;
     private final UserRepository userRepository;
     private final JWTSecurity JWTSecurity;
+    private final PasswordHashingDomainService passwordHashingDomainService;
+    private final LoginCredentialCacheDomainService loginCredentialCacheDomainService;
+    private final RefreshTokenDomainService refreshTokenDomainService;
+    private final LastLoginDomainService lastLoginDomainService;
 
     @Autowired
     public AuthServiceImpl(UserMapper userMapper,
                            UserRepository userRepository,
-                           JWTSecurity jwtSecurity) {
+                           JWTSecurity jwtSecurity,
+                           PasswordHashingDomainService passwordHashingDomainService,
+                           LoginCredentialCacheDomainService loginCredentialCacheDomainService,
+                           RefreshTokenDomainService refreshTokenDomainService,
+                           LastLoginDomainService lastLoginDomainService) {
         this.userMapper = userMapper;
         this.userRepository = userRepository;
         JWTSecurity = jwtSecurity;
+        this.passwordHashingDomainService = passwordHashingDomainService;
+        this.loginCredentialCacheDomainService = loginCredentialCacheDomainService;
+        this.refreshTokenDomainService = refreshTokenDomainService;
+        this.lastLoginDomainService = lastLoginDomainService;
     }
 
     @Override
@@ -46,42 +66,67 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     @Transactional
-    public String ProcessRegister(UserDTO userDTO) {
+    public AuthTokensDTO ProcessRegister(UserDTO userDTO) {
         User user = userRepository.findById(userDTO.getId())
                 .orElseThrow(() -> new RuntimeException("Can't Process Login"));
 
-        return JWTSecurity.generateToken(user.getId(), user.getEmail() ,user.getRole().toString());
+        return issueTokens(user.getId(), user.getEmail(), user.getRole().toString(),
+                refreshTokenDomainService.issue(user.getId(), user.getEmail(), user.getRole().toString()));
     }
 
     @Override
-    @Cacheable(value = "userCredentialsCache", key = "#loginDTO.email")
     public Result<UserDTO> validateLoginCredentials(LoginDTO loginDTO) {
-         Optional<User> optionalUser = userRepository.findByEmail(loginDTO.getEmail());
-         if (optionalUser.isEmpty()) {
-              return Result.error("User With Given Credentials Not Found");
-         }
+        String email = loginDTO.getEmail();
+        if (loginCredentialCacheDomainService.isLocked(email)) {
+            return Result.error("Too Many Failed Login Attempts, Try Again Later", HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        LoginCredentials credentials = loginCredentialCacheDomainService.getCredentials(email);
+        if (!credentials.isKnown()) {
+            loginCredentialCacheDomainService.recordFailure(email);
+            return Result.error("User With Given Credentials Not Found");
+        }
 
-         User user = optionalUser.get();
+        UserDTO user = credentials.getUser();
 
-        boolean isPasswordCorrect = PasswordHandler.validatePassword(loginDTO.getPassword(), user.getPassword());
-        if (!isPasswordCorrect) {
+        Result<Boolean> passwordResult = passwordHashingDomainService.verify(loginDTO.getPassword(), user.getPassword());
+        if (!passwordResult.isSuccess()) {
+            return Result.error(passwordResult.getErrorMessage(), passwordResult.getStatus());
+        }
+        if (!passwordResult.getData()) {
+            loginCredentialCacheDomainService.recordFailure(email);
             return Result.error("Wrong Password");
         }
 
-        return Result.success(userMapper.entityToDTO(user));
+        loginCredentialCacheDomainService.recordSuccess(email);
+        return Result.success(user);
     }
 
+    // The user comes from the verified credentials; last_login is written behind in batches
     @Override
     @Transactional
-    public String ProcessLogin(UserDTO userDTO) {
-        User user = userRepository.findById(userDTO.getId())
-                .orElseThrow(() -> new RuntimeException("Cant Process Login"));
+    public AuthTokensDTO ProcessLogin(UserDTO userDTO) {
+        String refreshToken = refreshTokenDomainService.issue(userDTO.getId(), userDTO.getEmail(), userDTO.getRole().toString());
 
-        String JWT = JWTSecurity.generateToken(user.getId(), user.getEmail() ,user.getRole().toString());
+        lastLoginDomainService.recordLogin(userDTO.getId(), LocalDateTime.now());
 
-        user.updateLastLogin();
-        userRepository.saveAndFlush(user);
+        return issueTokens(userDTO.getId(), userDTO.getEmail(), userDTO.getRole().toString(), refreshToken);
+    }
+
+    // No password check and no users lookup: the refresh token row carries the user
+    @Override
+    public Result<AuthTokensDTO> refreshTokens(String refreshToken) {
+        Result<RefreshTokenGrant> grantResult = refreshTokenDomainService.rotate(refreshToken);
+        if (!grantResult.isSuccess()) {
+            return Result.error(grantResult.getErrorMessage(), grantResult.getStatus());
+        }
+
+        RefreshTokenGrant grant = grantResult.getData();
+        return Result.success(issueTokens(grant.getUserId(), grant.getEmail(), grant.getRole(), grant.getRefreshToken()));
+    }
 
-        return JWT;
+    private AuthTokensDTO issueTokens(Long userId, String email, String role, String refreshToken) {
+        String JWT = JWTSecurity.generateToken(userId, email, role);
+        return new AuthTokensDTO(JWT, JWTSecurity.getAccessTokenValiditySeconds(), refreshToken);
     }
 }
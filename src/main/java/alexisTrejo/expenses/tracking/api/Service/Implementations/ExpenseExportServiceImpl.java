@@ -0,0 +1,71 @@
+package alexisTrejo.expenses.tracking.api.Service.Implementations;
+
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseJdbcRepository;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseExportService;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFormat;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class ExpenseExportServiceImpl implements ExpenseExportService {
+
+    private final ExpenseJdbcRepository expenseJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    @Autowired
+    public ExpenseExportServiceImpl(ExpenseJdbcRepository expenseJdbcRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${expenses.export.fetch-size:1000}") int fetchSize) {
+        this.expenseJdbcRepository = expenseJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    /**
+     * Writes each row to the output as soon as the cursor returns it, so only one fetch-size
+     * window of rows is ever held in memory whatever the export size.
+     */
+    @Override
+    public void exportExpenses(ExpenseExportFilter filter, ExpenseExportFormat format, OutputStream outputStream) throws IOException {
+        ExpenseExportWriter exportWriter = new ExpenseExportWriter(format, outputStream, objectMapper);
+        exportWriter.writeHeader();
+
+        AtomicLong exportedRows = new AtomicLong();
+        long startMillis = System.currentTimeMillis();
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    expenseJdbcRepository.streamForExport(filter, fetchSize, expense -> {
+                        try {
+                            exportWriter.write(expense);
+                            exportedRows.incrementAndGet();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download, which also ends the cursor
+            throw e.getCause();
+        }
+
+        exportWriter.flush();
+        log.info("Expense {} export of {} rows finished in {} ms ({})", format, exportedRows.get(), System.currentTimeMillis() - startMillis, filter);
+    }
+}
@@ -0,0 +1,191 @@
+package alexisTrejo.expenses.tracking.api.Service.Implementations;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportErrorDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportResultDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportRowDTO;
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseJdbcRepository;
+import alexisTrejo.expenses.tracking.api.Repository.UserRepository;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseImportService;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Import.ExpenseImportFormat;
+import alexisTrejo.expenses.tracking.api.Utils.Import.ExpenseImportLine;
+import alexisTrejo.expenses.tracking.api.Utils.Import.ExpenseImportReader;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ExpenseImportServiceImpl implements ExpenseImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ExpenseJdbcRepository expenseJdbcRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public ExpenseImportServiceImpl(ExpenseJdbcRepository expenseJdbcRepository,
+                                    UserRepository userRepository,
+                                    ApplicationEventPublisher applicationEventPublisher,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${expenses.import.batch-size:500}") int batchSize) {
+        this.expenseJdbcRepository = expenseJdbcRepository;
+        this.userRepository = userRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Streams the file and inserts the valid rows as they arrive, one JDBC batch (and one
+     * transaction) per batch-size rows, so a failed batch never rolls back earlier ones and
+     * the file is never held in memory. Invalid lines are skipped and listed in the report.
+     */
+    @Override
+    public Result<ExpenseImportResultDTO> importExpenses(InputStream inputStream, ExpenseImportFormat format) throws IOException {
+        Result<ExpenseImportReader> readerResult = ExpenseImportReader.open(format, inputStream, objectMapper);
+        if (!readerResult.isSuccess()) {
+            return Result.error(readerResult.getErrorMessage(), readerResult.getStatus());
+        }
+
+        ExpenseImportResultDTO importResult = new ExpenseImportResultDTO();
+        importResult.setFormat(format);
+        long startNanos = System.nanoTime();
+
+        List<ExpenseImportLine> batch = new ArrayList<>(batchSize);
+        try (ExpenseImportReader reader = readerResult.getData()) {
+            ExpenseImportLine line;
+            while ((line = reader.next()) != null) {
+                importResult.setTotalRows(importResult.getTotalRows() + 1);
+
+                String error = line.isParsed() ? validateRow(line.getRow()) : line.getParseError();
+                if (error != null) {
+                    addError(importResult, line.getLineNumber(), error);
+                    continue;
+                }
+
+                batch.add(line);
+                if (batch.size() >= batchSize) {
+                    insertBatch(batch, importResult);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                insertBatch(batch, importResult);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        importResult.setElapsedMs(elapsedNanos / 1_000_000);
+        importResult.setRowsPerSecond(elapsedNanos > 0 ? importResult.getImportedRows() * 1_000_000_000d / elapsedNanos : 0);
+
+        log.info("Expense {} import finished: {} rows read, {} imported, {} failed in {} ms ({} rows/s)",
+                format, importResult.getTotalRows(), importResult.getImportedRows(), importResult.getFailedRows(),
+                importResult.getElapsedMs(), Math.round(importResult.getRowsPerSecond()));
+
+        return Result.success(importResult);
+    }
+
+    private void insertBatch(List<ExpenseImportLine> lines, ExpenseImportResultDTO importResult) {
+        // A single unknown employee would fail the whole JDBC batch on the foreign key, so they are filtered first
+        Set<Long> userIds = lines.stream().map(line -> line.getRow().getUserId()).collect(Collectors.toSet());
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Expense> expenses = new ArrayList<>(lines.size());
+        List<ExpenseImportLine> batchedLines = new ArrayList<>(lines.size());
+        for (ExpenseImportLine line : lines) {
+            Long userId = line.getRow().getUserId();
+            if (!existingUserIds.contains(userId)) {
+                addError(importResult, line.getLineNumber(), "User With Id(" + userId + ") Not Found");
+                continue;
+            }
+
+            expenses.add(toExpense(line.getRow(), now));
+            batchedLines.add(line);
+        }
+
+        if (expenses.isEmpty()) {
+            return;
+        }
+
+        try {
+            Integer inserted = transactionTemplate.execute(status -> {
+                int insertedRows = expenseJdbcRepository.insertAll(expenses);
+                applicationEventPublisher.publishEvent(ExpenseChangedEvent.created(expenses));
+                return insertedRows;
+            });
+            importResult.setImportedRows(importResult.getImportedRows() + (inserted != null ? inserted : 0));
+        } catch (DataAccessException e) {
+            String message = "Batch Insert Failed: " + e.getMostSpecificCause().getMessage();
+            log.warn("Expense import batch of {} rows starting at line {} failed: {}", batchedLines.size(), batchedLines.get(0).getLineNumber(), message);
+            batchedLines.forEach(line -> addError(importResult, line.getLineNumber(), message));
+        }
+    }
+
+    private String validateRow(ExpenseImportRowDTO row) {
+        Set<ConstraintViolation<ExpenseImportRowDTO>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList()
+                .toString();
+    }
+
+    private Expense toExpense(ExpenseImportRowDTO row, LocalDateTime now) {
+        Expense expense = new Expense();
+        expense.setUserId(row.getUserId());
+        expense.setAmount(row.getAmount());
+        expense.setCategory(row.getCategory());
+        expense.setDescription(row.getDescription());
+        expense.setDate(row.getDate());
+        expense.setReceiptUrl(row.getReceiptUrl() != null ? row.getReceiptUrl() : "");
+        expense.setStatus(ExpenseStatus.PENDING);
+        expense.setCreatedAt(now);
+        expense.setUpdatedAt(now);
+        return expense;
+    }
+
+    private void addError(ExpenseImportResultDTO importResult, long lineNumber, String message) {
+        importResult.setFailedRows(importResult.getFailedRows() + 1);
+        if (importResult.getErrors().size() < MAX_REPORTED_ERRORS) {
+            importResult.getErrors().add(new ExpenseImportErrorDTO(lineNumber, message));
+        } else {
+            importResult.setErrorsTruncated(true);
+        }
+    }
+}
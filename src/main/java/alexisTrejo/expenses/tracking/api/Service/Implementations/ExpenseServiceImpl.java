@@ -1,21 +1,40 @@
 package alexisTrejo.expenses.tracking.api.Service.Implementations;
 
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionOutcomeDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionResultDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseInsertDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseRejectDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseSearchHitDTO;
 import alexisTrejo.expenses.tracking.api.Mappers.ExpenseMapper;
 import alexisTrejo.expenses.tracking.api.Models.Expense;
 import alexisTrejo.expenses.tracking.api.Models.User;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseDecision;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Repository.ExpenseJdbcRepository;
 import alexisTrejo.expenses.tracking.api.Repository.ExpenseRepository;
 import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseListingCacheDomainService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseService;
+import alexisTrejo.expenses.tracking.api.Utils.Decision.DecidedExpenseRow;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Explain.GeneratedSqlCapture;
+import alexisTrejo.expenses.tracking.api.Utils.Filter.ExpenseFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Filter.ExpenseSpecifications;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseSearchCursor;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummary;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryGroupBy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -23,64 +42,133 @@ import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ExpenseServiceImpl implements ExpenseService {
+    // Keeps each IN list (and its cached plan) bounded for requests with thousands of ids
+    private static final int BULK_DECISION_CHUNK_SIZE = 1000;
+
     private final ExpenseRepository expenseRepository;
+    private final ExpenseJdbcRepository expenseJdbcRepository;
     private final ExpenseMapper expenseMapper;
     private final ExpenseDomainService expenseDomainService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExpenseListingCacheDomainService expenseListingCacheDomainService;
+    private final GeneratedSqlCapture generatedSqlCapture;
 
     @Autowired
     public ExpenseServiceImpl(ExpenseRepository expenseRepository,
+                              ExpenseJdbcRepository expenseJdbcRepository,
                               ExpenseMapper expenseMapper,
-                              ExpenseDomainService expenseDomainService) {
+                              ExpenseDomainService expenseDomainService,
+                              ApplicationEventPublisher applicationEventPublisher,
+                              ExpenseListingCacheDomainService expenseListingCacheDomainService,
+                              GeneratedSqlCapture generatedSqlCapture) {
         this.expenseRepository = expenseRepository;
+        this.expenseJdbcRepository = expenseJdbcRepository;
         this.expenseMapper = expenseMapper;
         this.expenseDomainService = expenseDomainService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.expenseListingCacheDomainService = expenseListingCacheDomainService;
+        this.generatedSqlCapture = generatedSqlCapture;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Result<ExpenseDTO> getExpenseById(Long expenseId) {
-        Optional<Expense> optionalExpense = expenseRepository.findById(expenseId);
+        Optional<Expense> optionalExpense = expenseRepository.findWithAttachmentsById(expenseId);
         return optionalExpense
                 .map(expense -> Result.success(expenseMapper.entityToDTO(expense)))
                 .orElseGet(() -> Result.error("Expense With Id(" + expenseId + ") not found"));
     }
 
     @Override
-    public Page<ExpenseDTO> getExpenseByUserId(Long userId, Pageable pageable) {
-        Page<Expense> expenses = expenseRepository.findByUserId(userId, pageable);
-        return expenses.map(expenseMapper::entityToDTO);
+    @Transactional(readOnly = true)
+    public Page<ExpenseListItemDTO> getExpenseByUserId(Long userId, Pageable pageable) {
+        return expenseRepository.findListItemsByUserId(userId, pageable);
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExpenseListItemDTO> getAllExpenseByStatus(ExpenseStatus expenseStatus, Pageable sortedPageable) {
+        return expenseListingCacheDomainService.getPage(expenseStatus, sortedPageable,
+                () -> expenseRepository.findListItemsByStatus(expenseStatus, sortedPageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseListItemDTO> getExpenseByUserIdAfter(Long userId, ExpenseCursor cursor, int size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<ExpenseListItemDTO> expenses = cursor == null
+                ? expenseRepository.findFirstByUserIdKeyset(userId, limit)
+                : expenseRepository.findByUserIdKeysetAfter(userId, cursor.getCreatedAt(), cursor.getId(), limit);
+
+        return CursorPage.fromOverFetched(expenses, size, ExpenseCursor::encode, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseListItemDTO> getAllExpenseByStatusAfter(ExpenseStatus expenseStatus, ExpenseCursor cursor, int size, boolean isSortedASC) {
+        return expenseListingCacheDomainService.getKeysetPage(expenseStatus, cursor, size, isSortedASC,
+                () -> findExpensesByStatusAfter(expenseStatus, cursor, size, isSortedASC));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseListItemDTO> filterExpenses(ExpenseFilter filter, ExpenseCursor cursor, int size) {
+        List<ExpenseListItemDTO> expenses = findFiltered(filter, cursor, size + 1);
+        return CursorPage.fromOverFetched(expenses, size, ExpenseCursor::encode, Function.identity());
+    }
 
+    // Runs the listing query once to capture the SQL Hibernate generates for it, then explains that statement
     @Override
-    @Cacheable(value = "expensesByStatusCache", key = "#expenseStatus")
-    public Page<ExpenseDTO> getAllExpenseByStatus(ExpenseStatus expenseStatus, Pageable sortedPageable) {
-        Page<Expense> expenses = expenseRepository.findByStatus(expenseStatus, sortedPageable);
+    @Transactional(readOnly = true)
+    public List<String> explainExpenseFilter(ExpenseFilter filter, ExpenseCursor cursor, int size) {
+        String sql = generatedSqlCapture.capture(() -> findFiltered(filter, cursor, size + 1));
+
+        List<Object> params = ExpenseSpecifications.parameterValues(filter, cursor);
+        params.add(size + 1);
+        return expenseJdbcRepository.explain(sql, params);
+    }
+
+    private List<ExpenseListItemDTO> findFiltered(ExpenseFilter filter, ExpenseCursor cursor, int limit) {
+        return expenseRepository.findListItems(ExpenseSpecifications.fromFilter(filter, cursor), ExpenseSpecifications.NEWEST_FIRST, limit);
+    }
 
-        return expenses.map(expenseMapper::entityToDTO);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ExpenseSearchHitDTO> searchExpenses(String tsQuery, ExpenseStatus expenseStatus, Long userId, ExpenseSearchCursor cursor, int size) {
+        List<ExpenseSearchHitDTO> hits = expenseJdbcRepository.searchByDescription(tsQuery, expenseStatus, userId, cursor, size + 1);
+        return CursorPage.fromOverFetched(hits, size, ExpenseSearchCursor::encode, Function.identity());
     }
 
     @Override
-    @Cacheable(value = "expenseSummaryCache", key = "'summary_' + #startDate + '_' + #endDate")
-    public ExpenseSummary getExpenseSummaryByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-            CompletableFuture<ExpenseSummary> expenseSummaryFuture = expenseDomainService.generateExpenseSummary(startDate, endDate);
-            return expenseSummaryFuture.join();
+    @Cacheable(value = CacheConfig.EXPENSE_SUMMARY_CACHE, key = "'summary_' + #startDate + '_' + #endDate + '_' + #groupBy", sync = true)
+    public ExpenseSummary getExpenseSummaryByDateRange(LocalDateTime startDate, LocalDateTime endDate, ExpenseSummaryGroupBy groupBy) {
+        return expenseDomainService.generateExpenseSummary(startDate, endDate, groupBy);
     }
 
 
     @Override
     @Transactional
-    @CacheEvict(value = "userExpensesCache", key = "#userId")
     public ExpenseDTO createExpense(ExpenseInsertDTO expenseInsertDTO, Long userId, ExpenseStatus expenseStatus) {
         Expense expense = expenseMapper.insertDtoToEntity(expenseInsertDTO);
         expense.setStatus(expenseStatus);
         expense.setUserId(userId);
 
         expenseRepository.saveAndFlush(expense);
+        applicationEventPublisher.publishEvent(ExpenseChangedEvent.created(expense));
+
         return expenseMapper.entityToDTO(expense);
 
     }
@@ -88,42 +176,91 @@ public class ExpenseServiceImpl implements ExpenseService {
     @Override
     @Transactional
     public Result<ExpenseDTO> approveExpense(Long expenseId, Long managerId) {
-       Optional<Expense> optionalExpense = expenseRepository.findById(expenseId);
-       if (optionalExpense.isEmpty()) {
-           return Result.error("Expense with ID " + expenseId + " not found", HttpStatus.NOT_FOUND);
+        // One conditional UPDATE ... RETURNING: of two managers acting at once only one finds the row still PENDING
+        List<DecidedExpenseRow> decidedRows = expenseJdbcRepository.approvePendingByIds(List.of(expenseId), managerId, LocalDateTime.now());
+        if (decidedRows.isEmpty()) {
+            return transitionFailure(expenseId);
+        }
 
-       }
-       Expense expense = optionalExpense.get();
+        applicationEventPublisher.publishEvent(ExpenseChangedEvent.decided(decidedRows, ExpenseStatus.PENDING, ExpenseStatus.APPROVED));
+        return Result.success(toDecidedExpenseDTO(decidedRows.get(0), ExpenseStatus.APPROVED, managerId, null));
+    }
 
-        if (!isExpensePending(expense)) {
-            return Result.error("Expense with ID " + expenseId + " has already been processed", HttpStatus.BAD_REQUEST);
+    @Override
+    @Transactional
+    public Result<ExpenseDTO> rejectExpense(ExpenseRejectDTO expenseRejectDTO) {
+        Long expenseId = expenseRejectDTO.getExpenseId();
+        String rejectReason = expenseRejectDTO.getRejectReason();
+        List<DecidedExpenseRow> decidedRows = expenseJdbcRepository.rejectPendingByIds(List.of(expenseId), rejectReason, LocalDateTime.now());
+        if (decidedRows.isEmpty()) {
+            return transitionFailure(expenseId);
         }
 
-        expense.setApprovedBy(new User(managerId));
-        expense.setStatus(ExpenseStatus.APPROVED);
-        expenseRepository.save(expense);
-
-        return Result.success(expenseMapper.entityToDTO(expense));
+        applicationEventPublisher.publishEvent(ExpenseChangedEvent.decided(decidedRows, ExpenseStatus.PENDING, ExpenseStatus.REJECTED));
+        return Result.success(toDecidedExpenseDTO(decidedRows.get(0), ExpenseStatus.REJECTED, null, rejectReason));
     }
 
     @Override
     @Transactional
-    public Result<ExpenseDTO> rejectExpense(ExpenseRejectDTO expenseRejectDTO) {
-        Optional<Expense> optionalExpense = expenseRepository.findById(expenseRejectDTO.getExpenseId());
-        if (optionalExpense.isEmpty()) {
-            return Result.error("Expense with ID " + expenseRejectDTO.getExpenseId() + " not found", HttpStatus.NOT_FOUND);
+    public Result<BulkDecisionResultDTO> applyBulkDecision(BulkDecisionDTO bulkDecisionDTO, Long managerId) {
+        ExpenseDecision decision = bulkDecisionDTO.getDecision();
+        String rejectReason = bulkDecisionDTO.getRejectReason();
+        if (decision == ExpenseDecision.REJECT && (rejectReason == null || rejectReason.isBlank())) {
+            return Result.error("reject_reason Is Obligatory To Reject Expenses", HttpStatus.BAD_REQUEST);
+        }
+
+        List<Long> expenseIds = bulkDecisionDTO.getExpenseIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
 
+        // One conditional UPDATE ... RETURNING per chunk, only rows still PENDING are changed
+        LocalDateTime now = LocalDateTime.now();
+        List<DecidedExpenseRow> decidedRows = new ArrayList<>();
+        for (List<Long> idsChunk : chunk(expenseIds)) {
+            decidedRows.addAll(decision == ExpenseDecision.APPROVE
+                    ? expenseJdbcRepository.approvePendingByIds(idsChunk, managerId, now)
+                    : expenseJdbcRepository.rejectPendingByIds(idsChunk, rejectReason, now));
         }
-        Expense expense = optionalExpense.get();
 
-        if (!isExpensePending(expense)) {
-            return Result.error("Expense with ID " + expenseRejectDTO.getExpenseId() + " has already been processed", HttpStatus.BAD_REQUEST);
+        ExpenseStatus targetStatus = decision.targetStatus();
+        applicationEventPublisher.publishEvent(ExpenseChangedEvent.decided(decidedRows, ExpenseStatus.PENDING, targetStatus));
+
+        Set<Long> decidedIds = decidedRows.stream().map(DecidedExpenseRow::getId).collect(Collectors.toSet());
+        List<Long> undecidedIds = expenseIds.stream().filter(id -> !decidedIds.contains(id)).toList();
+
+        // Tell apart ids that exist but were already processed from ids that don't exist
+        Map<Long, ExpenseStatus> undecidedStatuses = new HashMap<>();
+        for (List<Long> idsChunk : chunk(undecidedIds)) {
+            for (Object[] row : expenseRepository.findStatusesByIds(idsChunk)) {
+                undecidedStatuses.put((Long) row[0], (ExpenseStatus) row[1]);
+            }
         }
 
-        expense.setAsRejected(expenseRejectDTO.getRejectReason());
-        expenseRepository.save(expense);
+        BulkDecisionOutcomeDTO.Outcome decidedOutcome = decision == ExpenseDecision.APPROVE
+                ? BulkDecisionOutcomeDTO.Outcome.APPROVED
+                : BulkDecisionOutcomeDTO.Outcome.REJECTED;
+
+        List<BulkDecisionOutcomeDTO> outcomes = expenseIds.stream()
+                .map(expenseId -> {
+                    if (decidedIds.contains(expenseId)) {
+                        return new BulkDecisionOutcomeDTO(expenseId, decidedOutcome, "Expense Successfully " + targetStatus);
+                    }
+
+                    ExpenseStatus currentStatus = undecidedStatuses.get(expenseId);
+                    if (currentStatus != null) {
+                        return new BulkDecisionOutcomeDTO(expenseId, BulkDecisionOutcomeDTO.Outcome.ALREADY_PROCESSED, "Expense Has Already Been Processed (" + currentStatus + ")");
+                    }
+
+                    return new BulkDecisionOutcomeDTO(expenseId, BulkDecisionOutcomeDTO.Outcome.NOT_FOUND, "Expense With Id(" + expenseId + ") Not Found");
+                })
+                .toList();
+
+        List<ExpenseDTO> decidedExpenses = decidedRows.stream()
+                .map(row -> toDecidedExpenseDTO(row, targetStatus, decision == ExpenseDecision.APPROVE ? managerId : null, decision == ExpenseDecision.REJECT ? rejectReason : null))
+                .toList();
 
-        return Result.success(expenseMapper.entityToDTO(expense));
+        return Result.success(new BulkDecisionResultDTO(decision, expenseIds.size(), decidedRows.size(), outcomes, decidedExpenses));
     }
 
     @Override
@@ -134,14 +271,59 @@ public class ExpenseServiceImpl implements ExpenseService {
                 .map(expense -> {
                     expense.setAsDeleted();
                     expenseRepository.saveAndFlush(expense);
+                    applicationEventPublisher.publishEvent(ExpenseChangedEvent.deleted(expense));
                     return Result.success();
                 })
                 .orElseGet(() -> Result.error("Expense With Id(" + expenseId + ") not found"));
     }
 
 
-    private boolean isExpensePending(Expense expense) {
-        return expense.getStatus() == ExpenseStatus.PENDING;
+    private CursorPage<ExpenseListItemDTO> findExpensesByStatusAfter(ExpenseStatus expenseStatus, ExpenseCursor cursor, int size, boolean isSortedASC) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<ExpenseListItemDTO> expenses;
+        if (isSortedASC) {
+            expenses = cursor == null
+                    ? expenseRepository.findFirstByStatusKeysetAsc(expenseStatus, limit)
+                    : expenseRepository.findByStatusKeysetAfterAsc(expenseStatus, cursor.getCreatedAt(), cursor.getId(), limit);
+        } else {
+            expenses = cursor == null
+                    ? expenseRepository.findFirstByStatusKeysetDesc(expenseStatus, limit)
+                    : expenseRepository.findByStatusKeysetAfterDesc(expenseStatus, cursor.getCreatedAt(), cursor.getId(), limit);
+        }
+
+        return CursorPage.fromOverFetched(expenses, size, ExpenseCursor::encode, Function.identity());
+    }
+
+    // Only the returned columns: enough for the decision notification, which is all the callers use
+    private ExpenseDTO toDecidedExpenseDTO(DecidedExpenseRow row, ExpenseStatus status, Long approvedById, String rejectionReason) {
+        ExpenseDTO expenseDTO = new ExpenseDTO();
+        expenseDTO.setId(row.getId());
+        expenseDTO.setUserId(row.getUserId());
+        expenseDTO.setAmount(row.getAmount());
+        expenseDTO.setCategory(row.getCategory());
+        expenseDTO.setDate(row.getDate());
+        expenseDTO.setStatus(status);
+        expenseDTO.setApprovedById(approvedById);
+        expenseDTO.setRejectionReason(rejectionReason);
+        return expenseDTO;
+    }
+
+    private static <T> List<List<T>> chunk(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += BULK_DECISION_CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(from + BULK_DECISION_CHUNK_SIZE, items.size())));
+        }
+        return chunks;
+    }
+
+    // Only reached when the conditional UPDATE changed nothing, to tell a lost race from a missing id
+    private <T> Result<T> transitionFailure(Long expenseId) {
+        List<Object[]> statuses = expenseRepository.findStatusesByIds(List.of(expenseId));
+        if (statuses.isEmpty()) {
+            return Result.error("Expense with ID " + expenseId + " not found", HttpStatus.NOT_FOUND);
+        }
+
+        return Result.error("Expense with ID " + expenseId + " has already been processed (" + statuses.get(0)[1] + ")", HttpStatus.CONFLICT);
     }
 
 }
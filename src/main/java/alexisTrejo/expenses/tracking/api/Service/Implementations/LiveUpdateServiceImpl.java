@@ -0,0 +1,265 @@
+package alexisTrejo.expenses.tracking.api.Service.Implementations;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.AdminDashboardDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Live.DashboardUpdateDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Live.PendingQueueUpdateDTO;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseLiveFeedDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.ExpenseStatusCounterDomainService;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.LiveUpdateService;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events for admins (dashboard frames) and managers (pending queue frames).
+ * Emitters are async requests, so an idle subscriber holds a connection but no servlet thread.
+ * Changes are not sent as they happen: the push job checks once per interval and sends at most
+ * one frame of each kind, serialized once for every subscriber. Frames are queued per subscriber
+ * and written on the live update executor; a subscriber whose queue keeps growing is too slow to
+ * keep up and is dropped, which the client sees as a closed stream to reconnect.
+ */
+@Slf4j
+@Service
+public class LiveUpdateServiceImpl implements LiveUpdateService {
+
+    private static final String DASHBOARD_EVENT = "dashboard";
+    private static final String PENDING_QUEUE_EVENT = "pending-expenses";
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String ROLE_MANAGER = "ROLE_MANAGER";
+
+    private final ExpenseStatusCounterDomainService expenseStatusCounterDomainService;
+    private final ExpenseLiveFeedDomainService expenseLiveFeedDomainService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+    private final int maxQueuedFrames;
+    private final TaskExecutor liveUpdateExecutor;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong frameIds = new AtomicLong();
+    // Only read and written by the push job
+    private AdminDashboardDTO lastPushedDashboard;
+
+    @Autowired
+    public LiveUpdateServiceImpl(ExpenseStatusCounterDomainService expenseStatusCounterDomainService,
+                                 ExpenseLiveFeedDomainService expenseLiveFeedDomainService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${expenses.live.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                                 @Value("${expenses.live.max-subscribers:500}") int maxSubscribers,
+                                 @Value("${expenses.live.max-queued-frames:8}") int maxQueuedFrames,
+                                 @Qualifier("liveUpdateExecutor") TaskExecutor liveUpdateExecutor) {
+        this.expenseStatusCounterDomainService = expenseStatusCounterDomainService;
+        this.expenseLiveFeedDomainService = expenseLiveFeedDomainService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.maxQueuedFrames = maxQueuedFrames;
+        this.liveUpdateExecutor = liveUpdateExecutor;
+    }
+
+    @Override
+    public Result<SseEmitter> subscribe(Long userId, List<String> roles) {
+        boolean dashboard = roles.contains(ROLE_ADMIN);
+        boolean pendingQueue = roles.contains(ROLE_MANAGER);
+        if (!dashboard && !pendingQueue) {
+            return Result.error("Live Updates Are Only Available To Admins And Managers", HttpStatus.FORBIDDEN);
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            return Result.error("Too Many Live Update Subscribers, Try Again Later", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, dashboard, pendingQueue);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // The baseline the following frames' changes apply to
+        if (dashboard && expenseStatusCounterDomainService.isSeeded()) {
+            String frame = toJson(new DashboardUpdateDTO(expenseStatusCounterDomainService.getDashboard(), Map.of()));
+            send(subscriber, DASHBOARD_EVENT, frame);
+        }
+
+        log.debug("User {} subscribed to live updates (dashboard: {}, pending queue: {})", userId, dashboard, pendingQueue);
+        return Result.success(emitter);
+    }
+
+    @Override
+    public void pushUpdates() {
+        // Drained even without subscribers so the buffer never holds stale changes
+        PendingQueueUpdateDTO queueUpdate = expenseLiveFeedDomainService.drain();
+        if (subscribers.isEmpty()) {
+            lastPushedDashboard = null;
+            return;
+        }
+
+        String dashboardFrame = null;
+        if (expenseStatusCounterDomainService.isSeeded()) {
+            AdminDashboardDTO dashboard = expenseStatusCounterDomainService.getDashboard();
+            if (!dashboard.equals(lastPushedDashboard)) {
+                dashboardFrame = toJson(new DashboardUpdateDTO(dashboard, changes(lastPushedDashboard, dashboard)));
+                lastPushedDashboard = dashboard;
+            }
+        }
+        String queueFrame = queueUpdate != null ? toJson(queueUpdate) : null;
+
+        if (dashboardFrame == null && queueFrame == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.dashboard && dashboardFrame != null) {
+                send(subscriber, DASHBOARD_EVENT, dashboardFrame);
+            }
+            if (subscriber.pendingQueue && queueFrame != null) {
+                send(subscriber, PENDING_QUEUE_EVENT, queueFrame);
+            }
+        }
+    }
+
+    /**
+     * A comment line keeps proxies from closing quiet streams and surfaces dead clients.
+     */
+    @Override
+    public void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void send(Subscriber subscriber, String eventName, String frame) {
+        enqueue(subscriber, SseEmitter.event()
+                .id(Long.toString(frameIds.incrementAndGet()))
+                .name(eventName)
+                .data(frame));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.queuedFrames.incrementAndGet() > maxQueuedFrames) {
+            log.debug("Dropping live update subscriber of user {}: {} frames behind", subscriber.userId, maxQueuedFrames);
+            drop(subscriber);
+            return;
+        }
+        subscriber.frames.add(event);
+        scheduleWrite(subscriber);
+    }
+
+    private void scheduleWrite(Subscriber subscriber) {
+        if (!subscriber.writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            liveUpdateExecutor.execute(() -> write(subscriber));
+        } catch (TaskRejectedException e) {
+            // No write is in progress, so completing here cannot block
+            subscribers.remove(subscriber);
+            subscriber.closed.set(true);
+            subscriber.emitter.complete();
+            subscriber.writing.set(false);
+        }
+    }
+
+    // Runs on the live update executor, never for the same subscriber on two threads at once
+    private void write(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed.get() && (event = subscriber.frames.poll()) != null) {
+                subscriber.queuedFrames.decrementAndGet();
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping live update subscriber of user {}: {}", subscriber.userId, e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.closed.set(true);
+        } finally {
+            subscriber.writing.set(false);
+        }
+
+        if (subscriber.closed.get()) {
+            // Completed here rather than by drop(), which would block behind a send still in progress
+            subscriber.frames.clear();
+            subscriber.emitter.complete();
+        } else if (!subscriber.frames.isEmpty()) {
+            scheduleWrite(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed.set(true);
+        scheduleWrite(subscriber);
+    }
+
+    private String toJson(Object frame) {
+        try {
+            return objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live update frame", e);
+        }
+    }
+
+    private static Map<String, Integer> changes(AdminDashboardDTO previous, AdminDashboardDTO current) {
+        Map<String, Integer> changes = new LinkedHashMap<>();
+        if (previous == null) {
+            return changes;
+        }
+        putChange(changes, "pending_reimbursements", previous.getPendingReimbursements(), current.getPendingReimbursements());
+        putChange(changes, "pending_expenses", previous.getPendingExpenses(), current.getPendingExpenses());
+        putChange(changes, "total_expenses", previous.getTotalExpenses(), current.getTotalExpenses());
+        putChange(changes, "total_approved_expenses", previous.getTotalApprovedExpenses(), current.getTotalApprovedExpenses());
+        putChange(changes, "total_rejected_expenses", previous.getTotalRejectedExpenses(), current.getTotalRejectedExpenses());
+        putChange(changes, "total_reimbursement_expenses", previous.getTotalReimbursementExpenses(), current.getTotalReimbursementExpenses());
+        return changes;
+    }
+
+    private static void putChange(Map<String, Integer> changes, String field, int previous, int current) {
+        if (previous != current) {
+            changes.put(field, current - previous);
+        }
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final boolean dashboard;
+        private final boolean pendingQueue;
+        private final Queue<SseEmitter.SseEventBuilder> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queuedFrames = new AtomicInteger();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter, boolean dashboard, boolean pendingQueue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.dashboard = dashboard;
+            this.pendingQueue = pendingQueue;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -80,7 +81,7 @@ public class NotificationServiceImpl implements NotificationService {
         notificationRepository.saveAndFlush(notification);
     }
 
-    @Transactional
+    // Not transactional: the notification commits in the domain service, the mail goes out after
     @Override
     @Async("taskExecutor")
     public void sendNotificationFromExpense(ExpenseDTO expenseDTO) {
@@ -91,7 +92,28 @@ public class NotificationServiceImpl implements NotificationService {
         emailServiceImpl.sendNotificationFromNotification(notification);
         log.info("Email Successfully Send It To The Email From User Id {}", notification.getUser().getId());
     }
-    
+
+    // The notifications commit in one short transaction; the emails are sent after it, so a slow
+    // mail server never holds a connection or row locks for the length of the whole batch
+    @Override
+    @Async("taskExecutor")
+    public void sendNotificationsFromExpenses(List<ExpenseDTO> expenseDTOs) {
+        if (expenseDTOs.isEmpty()) {
+            return;
+        }
+
+        List<Notification> notifications = notificationDomainService.createNotificationsFromExpenses(expenseDTOs);
+        log.info("{} Notifications Successfully created from a bulk decision", notifications.size());
+
+        for (Notification notification : notifications) {
+            try {
+                emailServiceImpl.sendNotificationFromNotification(notification);
+            } catch (RuntimeException e) {
+                log.warn("Email could not be sent to User Id {}: {}", notification.getUser().getId(), e.getMessage());
+            }
+        }
+    }
+
     @Override
     public Result<Void> markNotificationAsRead(Long notificationId) {
         Optional<Notification> optionalNotification =  notificationRepository.findById(notificationId);
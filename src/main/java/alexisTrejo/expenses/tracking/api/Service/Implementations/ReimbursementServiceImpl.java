@@ -3,16 +3,21 @@ package alexisTrejo.expenses.tracking.api.Service.Implementations;
 import alexisTrejo.expenses.tracking.api.DTOs.Reimbursement.ReimbursementDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Reimbursement.ReimbursementInsertDTO;
 import alexisTrejo.expenses.tracking.api.Mappers.ReimbursementMapper;
+import alexisTrejo.expenses.tracking.api.Models.Expense;
 import alexisTrejo.expenses.tracking.api.Models.Reimbursement;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
 import alexisTrejo.expenses.tracking.api.Repository.ReimbursementRepository;
 import alexisTrejo.expenses.tracking.api.Repository.UserRepository;
 import alexisTrejo.expenses.tracking.api.Service.DomainService.ReimbursementDomainService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.ReimbursementService;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -23,14 +28,17 @@ public class ReimbursementServiceImpl implements ReimbursementService {
     private final ReimbursementMapper reimbursementMapper;
     private final UserRepository userRepository;
     private final ReimbursementDomainService reimbursementDomainService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
     public ReimbursementServiceImpl(ReimbursementRepository reimbursementRepository,
-                                    ReimbursementMapper reimbursementMapper, UserRepository userRepository, ReimbursementDomainService reimbursementDomainService) {
+                                    ReimbursementMapper reimbursementMapper, UserRepository userRepository, ReimbursementDomainService reimbursementDomainService,
+                                    ApplicationEventPublisher applicationEventPublisher) {
         this.reimbursementRepository = reimbursementRepository;
         this.reimbursementMapper = reimbursementMapper;
         this.userRepository = userRepository;
         this.reimbursementDomainService = reimbursementDomainService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -55,6 +63,7 @@ public class ReimbursementServiceImpl implements ReimbursementService {
     }
 
     @Override
+    @Transactional
     public Result<ReimbursementDTO> createReimbursement(ReimbursementInsertDTO reimbursementInsertDTO, Long userId) {
         Reimbursement reimbursement = reimbursementMapper.insertDtoToEntity(reimbursementInsertDTO);
 
@@ -65,6 +74,10 @@ public class ReimbursementServiceImpl implements ReimbursementService {
 
         reimbursementRepository.save(reimbursement);
 
+        Expense expense = reimbursement.getExpense();
+        expense.setAsReimbursed(reimbursement);
+        applicationEventPublisher.publishEvent(ExpenseChangedEvent.transitioned(expense, ExpenseStatus.APPROVED, ExpenseStatus.REIMBURSED));
+
         return Result.success(reimbursementMapper.entityToDTO(reimbursement));
     }
 
@@ -1,16 +1,20 @@
 package alexisTrejo.expenses.tracking.api.Service.Implementations;
 
+import alexisTrejo.expenses.tracking.api.Config.Cache.CacheConfig;
 import alexisTrejo.expenses.tracking.api.DTOs.User.ProfileDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.User.UserDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.UserInsertDTO;
 import alexisTrejo.expenses.tracking.api.Mappers.UserMapper;
-import alexisTrejo.expenses.tracking.api.Middleware.PasswordHandler;
 import alexisTrejo.expenses.tracking.api.Models.User;
 import alexisTrejo.expenses.tracking.api.Models.enums.Role;
 import alexisTrejo.expenses.tracking.api.Repository.UserRepository;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.LoginCredentialCacheDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.PasswordHashingDomainService;
+import alexisTrejo.expenses.tracking.api.Service.DomainService.RefreshTokenDomainService;
 import alexisTrejo.expenses.tracking.api.Service.Interfaces.UserService;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -20,22 +24,39 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final PasswordHashingDomainService passwordHashingDomainService;
+    private final LoginCredentialCacheDomainService loginCredentialCacheDomainService;
+    private final RefreshTokenDomainService refreshTokenDomainService;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper) {
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper,
+                           PasswordHashingDomainService passwordHashingDomainService,
+                           LoginCredentialCacheDomainService loginCredentialCacheDomainService,
+                           RefreshTokenDomainService refreshTokenDomainService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.passwordHashingDomainService = passwordHashingDomainService;
+        this.loginCredentialCacheDomainService = loginCredentialCacheDomainService;
+        this.refreshTokenDomainService = refreshTokenDomainService;
     }
 
     @Override
-    public UserDTO createUser(UserInsertDTO userInsertDTO, Role role) {
+    @CacheEvict(value = CacheConfig.EMAIL_CHECK_CACHE, key = "#userInsertDTO.email")
+    public Result<UserDTO> createUser(UserInsertDTO userInsertDTO, Role role) {
+        Result<String> hashResult = passwordHashingDomainService.hash(userInsertDTO.getPassword());
+        if (!hashResult.isSuccess()) {
+            return Result.error(hashResult.getErrorMessage(), hashResult.getStatus());
+        }
+
         User user = userMapper.insertDtoToEntity(userInsertDTO);
         user.setRole(role);
-        user.setPassword(PasswordHandler.hashPassword(userInsertDTO.getPassword()));
+        user.setPassword(hashResult.getData());
 
         userRepository.saveAndFlush(user);
+        // The email may be cached as unknown from an earlier login attempt
+        loginCredentialCacheDomainService.evict(user.getEmail());
 
-        return userMapper.entityToDTO(user);
+        return Result.success(userMapper.entityToDTO(user));
     }
 
     @Override
@@ -56,11 +77,23 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Result<Void> updateUser(Long userId, UserInsertDTO userInsertDTO) {
+        Result<String> hashResult = passwordHashingDomainService.hash(userInsertDTO.getPassword());
+        if (!hashResult.isSuccess()) {
+            return Result.error(hashResult.getErrorMessage(), hashResult.getStatus());
+        }
+
         Optional<User> optionalUser = userRepository.findById(userId);
         return optionalUser
                 .map(user -> {
+                    String previousEmail = user.getEmail();
                     userMapper.updateUser(user, userInsertDTO);
+                    user.setPassword(hashResult.getData());
                     userRepository.saveAndFlush(user);
+
+                    loginCredentialCacheDomainService.evict(previousEmail);
+                    loginCredentialCacheDomainService.evict(user.getEmail());
+                    // Refresh tokens carry the old email and were issued against the old password
+                    refreshTokenDomainService.revokeUser(userId);
                     return Result.success();
                 })
                 .orElseGet(() -> Result.error("User with id " + userId + " not found"));
@@ -68,11 +101,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Result<Void> deleteUserById(Long userId) {
-        if (!userRepository.existsById(userId)) {
+        Optional<User> optionalUser = userRepository.findById(userId);
+        if (optionalUser.isEmpty()) {
             return Result.error("User with id " + userId + " not found");
         }
 
-        userRepository.deleteById(userId);
+        userRepository.delete(optionalUser.get());
+        loginCredentialCacheDomainService.evict(optionalUser.get().getEmail());
+        refreshTokenDomainService.revokeUser(userId);
         return Result.success();
     }
 }
@@ -1,10 +1,39 @@
 package alexisTrejo.expenses.tracking.api.Service.Interfaces;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.AmountHistogramBucketDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Analytics.TopSpenderDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.CacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Cache.ExpenseListingCacheStatsDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.PasswordHashingStatsDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Dashboard.AdminDashboardDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ArchivedExpenseDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.ExpensePartitionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionMaintenanceDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Partitions.PartitionPruningCheckDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Settings.SettingsDTO;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface AdminService {
     AdminDashboardDTO getAdminDashboard();
     void updateSettings(SettingsDTO settingsDTO);
     SettingsDTO getCurrentSettings();
+    int rebuildExpenseRollups(LocalDate startDay, LocalDate endDay);
+    List<ExpensePartitionDTO> getExpensePartitions();
+    PartitionMaintenanceDTO maintainExpensePartitions();
+    Result<Long> convertExpensesToPartitions();
+    List<PartitionPruningCheckDTO> checkExpensePartitionPruning();
+    Page<ArchivedExpenseDTO> getArchivedExpenses(Long userId, Pageable pageable);
+    Result<ArchivedExpenseDTO> getArchivedExpenseById(Long expenseId);
+    long archiveColdExpenses();
+    Result<List<AmountHistogramBucketDTO>> getExpenseAmountHistogram(LocalDate startDay, LocalDate endDay, double bucketWidth, int buckets);
+    Result<List<TopSpenderDTO>> getTopSpenders(LocalDate startDay, LocalDate endDay, int limit);
+    Result<Integer> reloadExpenseAnalytics();
+    ExpenseListingCacheStatsDTO getExpenseListingCacheStats();
+    List<CacheStatsDTO> getCacheStats();
+    PasswordHashingStatsDTO getPasswordHashingStats();
 }
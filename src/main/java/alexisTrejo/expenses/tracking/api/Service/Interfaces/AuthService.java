@@ -1,5 +1,6 @@
 package alexisTrejo.expenses.tracking.api.Service.Interfaces;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Auth.AuthTokensDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.LoginDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.User.UserDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Auth.UserInsertDTO;
@@ -7,8 +8,10 @@ import alexisTrejo.expenses.tracking.api.Utils.Result;
 
 public interface AuthService {
     Result<Void> validateRegisterCredentials(UserInsertDTO userInsertDTO);
-    String ProcessRegister(UserDTO userDTO);
+    AuthTokensDTO ProcessRegister(UserDTO userDTO);
 
     Result<UserDTO> validateLoginCredentials(LoginDTO loginDTO);
-    String ProcessLogin(UserDTO userDTO);
+    AuthTokensDTO ProcessLogin(UserDTO userDTO);
+
+    Result<AuthTokensDTO> refreshTokens(String refreshToken);
 }
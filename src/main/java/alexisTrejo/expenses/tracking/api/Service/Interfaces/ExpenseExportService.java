@@ -0,0 +1,11 @@
+package alexisTrejo.expenses.tracking.api.Service.Interfaces;
+
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Export.ExpenseExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExpenseExportService {
+    void exportExpenses(ExpenseExportFilter filter, ExpenseExportFormat format, OutputStream outputStream) throws IOException;
+}
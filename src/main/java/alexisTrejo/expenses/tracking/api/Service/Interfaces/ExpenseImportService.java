@@ -0,0 +1,12 @@
+package alexisTrejo.expenses.tracking.api.Service.Interfaces;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportResultDTO;
+import alexisTrejo.expenses.tracking.api.Utils.Import.ExpenseImportFormat;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ExpenseImportService {
+    Result<ExpenseImportResultDTO> importExpenses(InputStream inputStream, ExpenseImportFormat format) throws IOException;
+}
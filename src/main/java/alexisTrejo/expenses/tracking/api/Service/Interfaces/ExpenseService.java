@@ -1,26 +1,43 @@
 package alexisTrejo.expenses.tracking.api.Service.Interfaces;
 
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.BulkDecisionResultDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseInsertDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
 import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseRejectDTO;
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseSearchHitDTO;
 import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Filter.ExpenseFilter;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.CursorPage;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseSearchCursor;
 import alexisTrejo.expenses.tracking.api.Utils.Result;
 import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummary;
+import alexisTrejo.expenses.tracking.api.Utils.Summary.ExpenseSummaryGroupBy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ExpenseService {
     Result<ExpenseDTO> getExpenseById(Long expenseId);
-    Page<ExpenseDTO> getExpenseByUserId(Long userId, Pageable pageable);
-    Page<ExpenseDTO> getAllExpenseByStatus(ExpenseStatus expenseStatus, Pageable sortedPage);
+    Page<ExpenseListItemDTO> getExpenseByUserId(Long userId, Pageable pageable);
+    Page<ExpenseListItemDTO> getAllExpenseByStatus(ExpenseStatus expenseStatus, Pageable sortedPage);
 
-    ExpenseSummary getExpenseSummaryByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+    CursorPage<ExpenseListItemDTO> getExpenseByUserIdAfter(Long userId, ExpenseCursor cursor, int size);
+    CursorPage<ExpenseListItemDTO> getAllExpenseByStatusAfter(ExpenseStatus expenseStatus, ExpenseCursor cursor, int size, boolean isSortedASC);
+    CursorPage<ExpenseListItemDTO> filterExpenses(ExpenseFilter filter, ExpenseCursor cursor, int size);
+    List<String> explainExpenseFilter(ExpenseFilter filter, ExpenseCursor cursor, int size);
+    CursorPage<ExpenseSearchHitDTO> searchExpenses(String tsQuery, ExpenseStatus expenseStatus, Long userId, ExpenseSearchCursor cursor, int size);
+
+    ExpenseSummary getExpenseSummaryByDateRange(LocalDateTime startDate, LocalDateTime endDate, ExpenseSummaryGroupBy groupBy);
 
     ExpenseDTO createExpense(ExpenseInsertDTO expenseInsertDTO, Long userId, ExpenseStatus expenseStatus);
     Result<ExpenseDTO> approveExpense(Long expenseId, Long managerId);
     Result<ExpenseDTO> rejectExpense(ExpenseRejectDTO expenseRejectDTO);
+    Result<BulkDecisionResultDTO> applyBulkDecision(BulkDecisionDTO bulkDecisionDTO, Long managerId);
 
     Result<Void> softDeleteExpenseById(Long expenseId);
 
@@ -0,0 +1,13 @@
+package alexisTrejo.expenses.tracking.api.Service.Interfaces;
+
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface LiveUpdateService {
+    Result<SseEmitter> subscribe(Long userId, List<String> roles);
+    void pushUpdates();
+    void sendHeartbeat();
+    int getSubscriberCount();
+}
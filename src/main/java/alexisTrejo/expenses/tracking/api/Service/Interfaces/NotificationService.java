@@ -7,6 +7,8 @@ import alexisTrejo.expenses.tracking.api.Utils.Result;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface NotificationService {
 
     Result<Page<NotificationDTO>> getNotificationByUserId(Long userId, Pageable pageable);
@@ -14,6 +16,7 @@ public interface NotificationService {
 
     void createNotification(NotificationInsertDTO notificationInsertDTO);
     void sendNotificationFromExpense(ExpenseDTO expenseDTO);
+    void sendNotificationsFromExpenses(List<ExpenseDTO> expenseDTOs);
 
     Result<Void> markNotificationAsRead(Long notificationId);
 }
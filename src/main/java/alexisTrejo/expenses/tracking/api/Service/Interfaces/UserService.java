@@ -10,7 +10,7 @@ public interface UserService {
     Result<UserDTO> getUserById(Long userId);
     Result<ProfileDTO> getProfileById(Long userId);
 
-    UserDTO createUser(UserInsertDTO userInsertDTO, Role role);
+    Result<UserDTO> createUser(UserInsertDTO userInsertDTO, Role role);
     Result<Void> updateUser(Long userId, UserInsertDTO userInsertDTO);
     Result<Void> deleteUserById(Long userId);
 }
@@ -0,0 +1,228 @@
+package alexisTrejo.expenses.tracking.api.Utils.Analytics;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Live expenses held column by column in primitive arrays: created_at as an epoch day, status
+ * and category as enum ordinals and the amount in cents. Scans touch only the columns they need
+ * and, over large stores, run in parallel on the common pool, each task folding into its own
+ * slice of one accumulator array, so nothing is allocated per row.
+ * <p>
+ * Writers take the write lock; every scan holds the read lock for its whole duration.
+ */
+public class ExpenseColumnStore {
+
+    public static final int STATUS_COUNT = ExpenseStatus.values().length;
+    public static final int CATEGORY_COUNT = ExpenseCategory.values().length;
+
+    // Below this many rows per task splitting costs more than it saves
+    private static final int MIN_ROWS_PER_TASK = 1 << 15;
+    private static final long NO_USER = 0L;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntMap positions;
+
+    private long[] ids;
+    private long[] userIds;
+    private int[] epochDays;
+    private byte[] statuses;
+    private byte[] categories;
+    private long[] amountCents;
+    private int size;
+
+    public ExpenseColumnStore(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.positions = new LongIntMap(capacity);
+        this.ids = new long[capacity];
+        this.userIds = new long[capacity];
+        this.epochDays = new int[capacity];
+        this.statuses = new byte[capacity];
+        this.categories = new byte[capacity];
+        this.amountCents = new long[capacity];
+    }
+
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsert(long id, Long userId, int epochDay, ExpenseStatus status, ExpenseCategory category, long cents) {
+        lock.writeLock().lock();
+        try {
+            int index = positions.get(id);
+            if (index == LongIntMap.MISSING) {
+                if (size == ids.length) {
+                    grow();
+                }
+                index = size++;
+                positions.put(id, index);
+            }
+
+            ids[index] = id;
+            userIds[index] = userId != null ? userId : NO_USER;
+            epochDays[index] = epochDay;
+            statuses[index] = (byte) status.ordinal();
+            categories[index] = (byte) category.ordinal();
+            amountCents[index] = cents;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int position = positions.remove(id);
+            if (position == LongIntMap.MISSING) {
+                return;
+            }
+
+            // Move the last row into the hole so the columns stay dense
+            int last = --size;
+            if (position != last) {
+                ids[position] = ids[last];
+                userIds[position] = userIds[last];
+                epochDays[position] = epochDays[last];
+                statuses[position] = statuses[last];
+                categories[position] = categories[last];
+                amountCents[position] = amountCents[last];
+                positions.put(ids[position], position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Count and cents per (status, category) for the inclusive day range. Cell
+     * {@code (status * CATEGORY_COUNT + category) * 2} holds the count, the next one the cents.
+     */
+    public long[] aggregateByStatusAndCategory(int fromDay, int toDay) {
+        return scan(STATUS_COUNT * CATEGORY_COUNT * 2, (from, to, out, offset) -> {
+            for (int i = from; i < to; i++) {
+                int day = epochDays[i];
+                if (day < fromDay || day > toDay) {
+                    continue;
+                }
+                int cell = offset + (statuses[i] * CATEGORY_COUNT + categories[i]) * 2;
+                out[cell]++;
+                out[cell + 1] += amountCents[i];
+            }
+        });
+    }
+
+    /**
+     * Expense counts per amount bucket of bucketWidthCents; the last bucket also takes every
+     * amount above the range.
+     */
+    public long[] amountHistogram(int fromDay, int toDay, long bucketWidthCents, int buckets) {
+        return scan(buckets, (from, to, out, offset) -> {
+            for (int i = from; i < to; i++) {
+                int day = epochDays[i];
+                if (day < fromDay || day > toDay) {
+                    continue;
+                }
+                long bucket = Math.max(0, amountCents[i]) / bucketWidthCents;
+                out[offset + (int) Math.min(bucket, buckets - 1)]++;
+            }
+        });
+    }
+
+    /**
+     * The users with the highest total amount in the inclusive day range, as parallel arrays
+     * {@code [userIds, cents]} sorted by cents descending.
+     */
+    public long[][] topUsersByAmount(int fromDay, int toDay, int limit) {
+        lock.readLock().lock();
+        try {
+            int rows = size;
+            int tasks = taskCount(rows);
+            int chunk = (rows + tasks - 1) / tasks;
+            LongSumMap[] partials = new LongSumMap[tasks];
+
+            IntStream taskIndexes = IntStream.range(0, tasks);
+            (tasks > 1 ? taskIndexes.parallel() : taskIndexes).forEach(task -> {
+                LongSumMap sums = new LongSumMap(256);
+                int end = Math.min(rows, (task + 1) * chunk);
+                for (int i = task * chunk; i < end; i++) {
+                    int day = epochDays[i];
+                    if (day < fromDay || day > toDay || userIds[i] == NO_USER) {
+                        continue;
+                    }
+                    sums.add(userIds[i], amountCents[i]);
+                }
+                partials[task] = sums;
+            });
+
+            LongSumMap totals = partials[0];
+            for (int task = 1; task < tasks; task++) {
+                totals.addAll(partials[task]);
+            }
+            return totals.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] scan(int width, RangeScan rangeScan) {
+        lock.readLock().lock();
+        try {
+            int rows = size;
+            int tasks = taskCount(rows);
+            long[] partials = new long[tasks * width];
+
+            if (tasks == 1) {
+                rangeScan.scan(0, rows, partials, 0);
+                return partials;
+            }
+
+            int chunk = (rows + tasks - 1) / tasks;
+            IntStream.range(0, tasks).parallel()
+                    .forEach(task -> rangeScan.scan(task * chunk, Math.min(rows, (task + 1) * chunk), partials, task * width));
+
+            long[] totals = Arrays.copyOf(partials, width);
+            for (int task = 1; task < tasks; task++) {
+                int offset = task * width;
+                for (int cell = 0; cell < width; cell++) {
+                    totals[cell] += partials[offset + cell];
+                }
+            }
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int taskCount(int rows) {
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), rows / MIN_ROWS_PER_TASK));
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        userIds = Arrays.copyOf(userIds, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+    }
+
+    @FunctionalInterface
+    private interface RangeScan {
+        void scan(int from, int to, long[] out, int offset);
+    }
+}
@@ -0,0 +1,96 @@
+package alexisTrejo.expenses.tracking.api.Utils.Analytics;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing map of positive long keys to long sums, so per-user totals can be
+ * accumulated without boxing. Key 0 marks an empty slot.
+ */
+class LongSumMap {
+
+    private long[] keys;
+    private long[] sums;
+    private int size;
+
+    LongSumMap(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedKeys * 2) - 1) << 1;
+        this.keys = new long[capacity];
+        this.sums = new long[capacity];
+    }
+
+    void add(long key, long value) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                sums[slot] = value;
+                rehash();
+                return;
+            }
+        }
+        sums[slot] += value;
+    }
+
+    void addAll(LongSumMap other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != 0) {
+                add(other.keys[slot], other.sums[slot]);
+            }
+        }
+    }
+
+    /**
+     * The limit largest sums as {@code [keys, sums]}, largest first.
+     */
+    long[][] top(int limit) {
+        int count = Math.min(limit, size);
+        long[] topKeys = new long[count];
+        long[] topSums = new long[count];
+        int filled = 0;
+
+        // Insertion into a small sorted window; limit is expected to be tiny next to size
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == 0) {
+                continue;
+            }
+            long sum = sums[slot];
+            if (filled == count && (count == 0 || sum <= topSums[count - 1])) {
+                continue;
+            }
+
+            int position = filled < count ? filled++ : count - 1;
+            while (position > 0 && topSums[position - 1] < sum) {
+                topKeys[position] = topKeys[position - 1];
+                topSums[position] = topSums[position - 1];
+                position--;
+            }
+            topKeys[position] = keys[slot];
+            topSums[position] = sum;
+        }
+
+        return new long[][]{Arrays.copyOf(topKeys, filled), Arrays.copyOf(topSums, filled)};
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        long[] oldSums = sums;
+        keys = new long[oldKeys.length * 2];
+        sums = new long[oldSums.length * 2];
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != 0) {
+                add(oldKeys[slot], oldSums[slot]);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,18 @@
+package alexisTrejo.expenses.tracking.api.Utils.Auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A freshly issued refresh token together with the user it was issued for, taken from the
+ * refresh token row so the access token can be minted without reading the user.
+ */
+@Data
+@AllArgsConstructor
+public class RefreshTokenGrant {
+
+    private String refreshToken;
+    private Long userId;
+    private String email;
+    private String role;
+}
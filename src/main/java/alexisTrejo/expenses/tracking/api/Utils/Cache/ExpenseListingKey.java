@@ -0,0 +1,40 @@
+package alexisTrejo.expenses.tracking.api.Utils.Cache;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Identifies one cached expenses-by-status page: either an offset page (pageNumber and sort
+ * taken from the Pageable) or a keyset page (cursor, null for the first one, and direction).
+ */
+@Data
+@AllArgsConstructor
+public class ExpenseListingKey {
+
+    private static final int KEYSET_PAGE = -1;
+
+    private ExpenseStatus status;
+    private int pageNumber;
+    private ExpenseCursor cursor;
+    private int size;
+    private String sort;
+
+    public static ExpenseListingKey ofPage(ExpenseStatus status, Pageable pageable) {
+        return new ExpenseListingKey(status, pageable.getPageNumber(), null, pageable.getPageSize(), pageable.getSort().toString());
+    }
+
+    public static ExpenseListingKey ofKeysetPage(ExpenseStatus status, ExpenseCursor cursor, int size, boolean ascending) {
+        return new ExpenseListingKey(status, KEYSET_PAGE, cursor, size, ascending ? "ASC" : "DESC");
+    }
+
+    public boolean isKeysetPage() {
+        return pageNumber == KEYSET_PAGE;
+    }
+
+    public boolean isAscending() {
+        return "ASC".equals(sort);
+    }
+}
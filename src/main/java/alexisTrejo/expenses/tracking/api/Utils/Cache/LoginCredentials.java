@@ -0,0 +1,24 @@
+package alexisTrejo.expenses.tracking.api.Utils.Cache;
+
+import alexisTrejo.expenses.tracking.api.DTOs.User.UserDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * What the login fast path keeps per email: the user snapshot with its BCrypt hash, or no user
+ * at all, since the cache does not hold nulls.
+ */
+@Data
+@AllArgsConstructor
+public class LoginCredentials {
+
+    private UserDTO user;
+
+    public static LoginCredentials unknownEmail() {
+        return new LoginCredentials(null);
+    }
+
+    public boolean isKnown() {
+        return user != null;
+    }
+}
@@ -0,0 +1,99 @@
+package alexisTrejo.expenses.tracking.api.Utils.CacheBus;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Live.PendingExpenseEventDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One change another node has to apply to its local caches. Field names are kept to a letter
+ * because a NOTIFY payload is limited to 8000 bytes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CacheBusEvent {
+
+    public enum Type {
+        // A Spring cache entry (key) or the whole cache
+        EVICT,
+        CLEAR,
+        // Expenses at the encoded cursor positions entered or left a status listing, or every listing of the status
+        LISTING_CHANGES,
+        LISTING_INVALIDATE,
+        // Dashboard status counter deltas
+        STATUS_DELTAS,
+        // Expenses that entered or left the pending approval queue, or a hint that some were lost
+        PENDING_QUEUE_CHANGES,
+        PENDING_QUEUE_RESYNC,
+        // Rows upserted into or removed from the columnar analytics store
+        ANALYTICS_CHANGES
+    }
+
+    @JsonProperty("t")
+    private Type type;
+
+    @JsonProperty("c")
+    private String cacheName;
+
+    @JsonProperty("k")
+    private String key;
+
+    @JsonProperty("s")
+    private ExpenseStatus status;
+
+    @JsonProperty("p")
+    private List<String> positions;
+
+    @JsonProperty("d")
+    private Map<ExpenseStatus, Long> deltas;
+
+    @JsonProperty("a")
+    private List<PendingExpenseEventDTO> added;
+
+    @JsonProperty("r")
+    private List<Long> removedIds;
+
+    // [id, user id, epoch day, status ordinal, category ordinal, amount in cents] per row
+    @JsonProperty("u")
+    private List<List<Long>> upserts;
+
+    public static CacheBusEvent evict(String cacheName, String key) {
+        return new CacheBusEvent(Type.EVICT, cacheName, key, null, null, null, null, null, null);
+    }
+
+    public static CacheBusEvent clear(String cacheName) {
+        return new CacheBusEvent(Type.CLEAR, cacheName, null, null, null, null, null, null, null);
+    }
+
+    public static CacheBusEvent listingChanges(ExpenseStatus status, List<String> positions) {
+        return new CacheBusEvent(Type.LISTING_CHANGES, null, null, status, positions, null, null, null, null);
+    }
+
+    public static CacheBusEvent listingInvalidate(ExpenseStatus status) {
+        return new CacheBusEvent(Type.LISTING_INVALIDATE, null, null, status, null, null, null, null, null);
+    }
+
+    public static CacheBusEvent statusDeltas(Map<ExpenseStatus, Long> deltas) {
+        return new CacheBusEvent(Type.STATUS_DELTAS, null, null, null, null, deltas, null, null, null);
+    }
+
+    public static CacheBusEvent pendingQueueChanges(List<PendingExpenseEventDTO> added, List<Long> removedIds) {
+        return new CacheBusEvent(Type.PENDING_QUEUE_CHANGES, null, null, null, null, null, added, removedIds, null);
+    }
+
+    public static CacheBusEvent pendingQueueResync() {
+        return new CacheBusEvent(Type.PENDING_QUEUE_RESYNC, null, null, null, null, null, null, null, null);
+    }
+
+    public static CacheBusEvent analyticsChanges(List<List<Long>> upserts, List<Long> removedIds) {
+        return new CacheBusEvent(Type.ANALYTICS_CHANGES, null, null, null, null, null, null, removedIds, upserts);
+    }
+}
@@ -0,0 +1,24 @@
+package alexisTrejo.expenses.tracking.api.Utils.CacheBus;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The events of one committed transaction (or a slice of them when they do not fit one NOTIFY),
+ * tagged with the sending node so it can skip its own messages.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheBusMessage {
+
+    @JsonProperty("n")
+    private String nodeId;
+
+    @JsonProperty("e")
+    private List<CacheBusEvent> events;
+}
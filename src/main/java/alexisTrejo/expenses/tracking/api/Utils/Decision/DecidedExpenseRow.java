@@ -0,0 +1,23 @@
+package alexisTrejo.expenses.tracking.api.Utils.Decision;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns returned by a conditional status UPDATE ... RETURNING, enough to adjust the
+ * rollups and build the notification of each expense without reloading it.
+ */
+@Data
+@AllArgsConstructor
+public class DecidedExpenseRow {
+    private Long id;
+    private Long userId;
+    private Double amount;
+    private ExpenseCategory category;
+    private LocalDate date;
+    private LocalDateTime createdAt;
+}
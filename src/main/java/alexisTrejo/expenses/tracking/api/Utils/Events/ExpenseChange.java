@@ -0,0 +1,46 @@
+package alexisTrejo.expenses.tracking.api.Utils.Events;
+
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Decision.DecidedExpenseRow;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One expense moving from one status to another; fromStatus is null for a new expense and
+ * toStatus is null for a deleted one.
+ */
+@Data
+@AllArgsConstructor
+public class ExpenseChange {
+    private Long id;
+    private Long userId;
+    private Double amount;
+    private ExpenseCategory category;
+    private LocalDate date;
+    private LocalDateTime createdAt;
+    private ExpenseStatus fromStatus;
+    private ExpenseStatus toStatus;
+
+    public static ExpenseChange of(Expense expense, ExpenseStatus fromStatus, ExpenseStatus toStatus) {
+        return new ExpenseChange(
+                expense.getId(),
+                expense.getUser() != null ? expense.getUser().getId() : null,
+                expense.getAmount(),
+                expense.getCategory(),
+                expense.getDate(),
+                expense.getCreatedAt(),
+                fromStatus,
+                toStatus
+        );
+    }
+
+    public static ExpenseChange of(DecidedExpenseRow row, ExpenseStatus fromStatus, ExpenseStatus toStatus) {
+        return new ExpenseChange(row.getId(), row.getUserId(), row.getAmount(), row.getCategory(),
+                row.getDate(), row.getCreatedAt(), fromStatus, toStatus);
+    }
+}
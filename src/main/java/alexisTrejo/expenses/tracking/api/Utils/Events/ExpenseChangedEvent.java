@@ -0,0 +1,47 @@
+package alexisTrejo.expenses.tracking.api.Utils.Events;
+
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Decision.DecidedExpenseRow;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Published by every write that creates, deletes or changes the status of expenses, from inside
+ * its transaction. The daily rollups consume it in that transaction; the in-memory views
+ * (analytics store, status counters, listing cache, live pending feed) apply it once it commits.
+ */
+@Data
+@AllArgsConstructor
+public class ExpenseChangedEvent {
+    private List<ExpenseChange> changes;
+
+    public static ExpenseChangedEvent created(Expense expense) {
+        return created(List.of(expense));
+    }
+
+    public static ExpenseChangedEvent created(List<Expense> expenses) {
+        return new ExpenseChangedEvent(expenses.stream()
+                .map(expense -> ExpenseChange.of(expense, null, expense.getStatus()))
+                .toList());
+    }
+
+    public static ExpenseChangedEvent transitioned(Expense expense, ExpenseStatus fromStatus, ExpenseStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return new ExpenseChangedEvent(List.of());
+        }
+        return new ExpenseChangedEvent(List.of(ExpenseChange.of(expense, fromStatus, toStatus)));
+    }
+
+    public static ExpenseChangedEvent decided(List<DecidedExpenseRow> rows, ExpenseStatus fromStatus, ExpenseStatus toStatus) {
+        return new ExpenseChangedEvent(rows.stream()
+                .map(row -> ExpenseChange.of(row, fromStatus, toStatus))
+                .toList());
+    }
+
+    public static ExpenseChangedEvent deleted(Expense expense) {
+        return new ExpenseChangedEvent(List.of(ExpenseChange.of(expense, expense.getStatus(), null)));
+    }
+}
@@ -0,0 +1,45 @@
+package alexisTrejo.expenses.tracking.api.Utils.Explain;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statement inspector that records the SQL Hibernate prepares on the current thread while a
+ * capture is running, so query plans can be taken for the exact statements the repositories send
+ * instead of hand-written copies of them. Outside a capture it passes every statement through.
+ */
+@Component
+public class GeneratedSqlCapture implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Runs the query and returns the last statement Hibernate prepared for it.
+     */
+    public String capture(Runnable query) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            query.run();
+        } finally {
+            CAPTURED.remove();
+        }
+
+        if (captured.isEmpty()) {
+            throw new IllegalStateException("The query did not prepare any SQL statement");
+        }
+        return captured.get(captured.size() - 1);
+    }
+}
@@ -0,0 +1,21 @@
+package alexisTrejo.expenses.tracking.api.Utils.Export;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Optional export filters, a null field is not applied. The date range is inclusive and
+ * matches the expense date.
+ */
+@Data
+@AllArgsConstructor
+public class ExpenseExportFilter {
+    private ExpenseStatus status;
+    private ExpenseCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,31 @@
+package alexisTrejo.expenses.tracking.api.Utils.Export;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ExpenseExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExpenseExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static Optional<ExpenseExportFormat> findFormat(String name) {
+        return Arrays.stream(ExpenseExportFormat.values())
+                .filter(format -> format.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
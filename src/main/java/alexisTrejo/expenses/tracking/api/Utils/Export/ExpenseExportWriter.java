@@ -0,0 +1,89 @@
+package alexisTrejo.expenses.tracking.api.Utils.Export;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes exported expenses one row at a time with the ExpenseDTO field names
+ * (attachments are not exported).
+ */
+public class ExpenseExportWriter implements Flushable {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "user_id", "amount", "category", "description", "date",
+            "receipt_url", "status", "approved_by_id", "rejection_reason"
+    );
+
+    private final ExpenseExportFormat format;
+    private final Writer writer;
+    private final ObjectWriter jsonWriter;
+
+    public ExpenseExportWriter(ExpenseExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.jsonWriter = objectMapper.writerFor(ExpenseDTO.class);
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == ExpenseExportFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+    }
+
+    public void write(ExpenseDTO expense) throws IOException {
+        if (format == ExpenseExportFormat.NDJSON) {
+            writer.write(jsonWriter.writeValueAsString(expense));
+            writer.write('\n');
+            return;
+        }
+
+        writer.write(String.valueOf(expense.getId()));
+        writer.write(',');
+        writer.write(expense.getUserId() != null ? expense.getUserId().toString() : "");
+        writer.write(',');
+        writer.write(String.valueOf(expense.getAmount()));
+        writer.write(',');
+        writer.write(expense.getCategory().name());
+        writer.write(',');
+        writer.write(escapeCsv(expense.getDescription()));
+        writer.write(',');
+        writer.write(expense.getDate().toString());
+        writer.write(',');
+        writer.write(escapeCsv(expense.getReceiptUrl()));
+        writer.write(',');
+        writer.write(expense.getStatus().name());
+        writer.write(',');
+        writer.write(expense.getApprovedById() != null ? expense.getApprovedById().toString() : "");
+        writer.write(',');
+        writer.write(escapeCsv(expense.getRejectionReason()));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
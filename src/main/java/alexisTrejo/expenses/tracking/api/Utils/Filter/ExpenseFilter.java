@@ -0,0 +1,55 @@
+package alexisTrejo.expenses.tracking.api.Utils.Filter;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Utils.Filter.ExpenseFilterClause.Operator;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria of the multi-filter expense listing, a null field is not applied.
+ * Every combination must include at least one filter that leads an index
+ * (see db/expense-filter-indexes.sql); the amount range alone would scan the table.
+ */
+@Data
+@NoArgsConstructor
+public class ExpenseFilter {
+    private ExpenseStatus status;
+    private ExpenseCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double minAmount;
+    private Double maxAmount;
+    private String department;
+    private Long approvedById;
+    private Long userId;
+
+    public boolean hasIndexedFilter() {
+        return status != null || category != null || startDate != null || endDate != null
+                || department != null || approvedById != null || userId != null;
+    }
+
+    public List<ExpenseFilterClause> toClauses() {
+        List<ExpenseFilterClause> clauses = new ArrayList<>();
+        addClause(clauses, "status", Operator.EQUAL, status);
+        addClause(clauses, "category", Operator.EQUAL, category);
+        addClause(clauses, "user.id", Operator.EQUAL, userId);
+        addClause(clauses, "approvedBy.id", Operator.EQUAL, approvedById);
+        addClause(clauses, "user.department", Operator.EQUAL, department);
+        addClause(clauses, "date", Operator.GREATER_OR_EQUAL, startDate);
+        addClause(clauses, "date", Operator.LESS_OR_EQUAL, endDate);
+        addClause(clauses, "amount", Operator.GREATER_OR_EQUAL, minAmount);
+        addClause(clauses, "amount", Operator.LESS_OR_EQUAL, maxAmount);
+        return clauses;
+    }
+
+    private static void addClause(List<ExpenseFilterClause> clauses, String attributePath, Operator operator, Object value) {
+        if (value != null) {
+            clauses.add(new ExpenseFilterClause(attributePath, operator, value));
+        }
+    }
+}
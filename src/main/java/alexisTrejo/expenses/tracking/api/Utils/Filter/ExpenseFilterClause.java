@@ -0,0 +1,22 @@
+package alexisTrejo.expenses.tracking.api.Utils.Filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A single filter condition on an attribute path of the expense.
+ */
+@Getter
+@AllArgsConstructor
+public class ExpenseFilterClause {
+
+    public enum Operator {
+        EQUAL,
+        GREATER_OR_EQUAL,
+        LESS_OR_EQUAL
+    }
+
+    private final String attributePath;
+    private final Operator operator;
+    private final Object value;
+}
@@ -0,0 +1,83 @@
+package alexisTrejo.expenses.tracking.api.Utils.Filter;
+
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Utils.Pagination.ExpenseCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ExpenseSpecifications {
+
+    // Newest first, the order the (..., created_at, id) filter indexes end with
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private ExpenseSpecifications() {
+    }
+
+    public static Specification<Expense> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * The filter clauses, followed by the keyset seek past the cursor when one is given.
+     */
+    public static Specification<Expense> fromFilter(ExpenseFilter filter, ExpenseCursor cursor) {
+        Specification<Expense> clauses = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            for (ExpenseFilterClause clause : filter.toClauses()) {
+                predicates.add(toPredicate(root, cb, clause));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+
+        Specification<Expense> specification = notDeleted().and(clauses);
+        return cursor != null ? specification.and(before(cursor)) : specification;
+    }
+
+    /**
+     * Values Hibernate binds for {@link #fromFilter}, in the order they appear in its SQL.
+     */
+    public static List<Object> parameterValues(ExpenseFilter filter, ExpenseCursor cursor) {
+        List<Object> values = new ArrayList<>();
+        filter.toClauses().forEach(clause -> values.add(clause.getValue()));
+        if (cursor != null) {
+            values.add(cursor.getCreatedAt());
+            values.add(cursor.getCreatedAt());
+            values.add(cursor.getId());
+        }
+        return values;
+    }
+
+    // (createdAt, id) < (cursor) in NEWEST_FIRST order. The criteria API has no row-value comparison,
+    // so the redundant createdAt <= bound is added for the planner to use as an index condition.
+    private static Specification<Expense> before(ExpenseCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.or(
+                        cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.get("id"), cursor.getId())
+                )
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate toPredicate(Root<Expense> root, CriteriaBuilder cb, ExpenseFilterClause clause) {
+        Path path = root;
+        for (String attribute : clause.getAttributePath().split("\\.")) {
+            path = path.get(attribute);
+        }
+
+        Comparable value = (Comparable) clause.getValue();
+        return switch (clause.getOperator()) {
+            case EQUAL -> cb.equal(path, value);
+            case GREATER_OR_EQUAL -> cb.greaterThanOrEqualTo(path, value);
+            case LESS_OR_EQUAL -> cb.lessThanOrEqualTo(path, value);
+        };
+    }
+}
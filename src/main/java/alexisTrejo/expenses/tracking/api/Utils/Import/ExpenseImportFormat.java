@@ -0,0 +1,28 @@
+package alexisTrejo.expenses.tracking.api.Utils.Import;
+
+import java.util.Locale;
+
+public enum ExpenseImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * Resolves the format from the explicit request parameter, falling back to the file extension.
+     */
+    public static ExpenseImportFormat resolve(String format, String filename) {
+        String value = format;
+        if ((value == null || value.isBlank()) && filename != null && filename.contains(".")) {
+            value = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+
+        if (value == null) {
+            return null;
+        }
+
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "ndjson", "jsonl" -> NDJSON;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package alexisTrejo.expenses.tracking.api.Utils.Import;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportRowDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A parsed line of an import file. Either the row or the parse error is set.
+ */
+@Getter
+@AllArgsConstructor
+public class ExpenseImportLine {
+    private final long lineNumber;
+    private final ExpenseImportRowDTO row;
+    private final String parseError;
+
+    public boolean isParsed() {
+        return row != null;
+    }
+}
@@ -0,0 +1,187 @@
+package alexisTrejo.expenses.tracking.api.Utils.Import;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseImportRowDTO;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads an import file one line at a time so memory stays flat whatever the file size.
+ * CSV files need a header row naming the columns (user_id, amount, category, description,
+ * date and optionally receipt_url); quoted fields may contain commas but not line breaks.
+ * NDJSON files hold one expense object per line with the same snake_case keys.
+ */
+public class ExpenseImportReader implements Closeable {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("user_id", "amount", "category", "description", "date");
+
+    private final ExpenseImportFormat format;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> csvColumns = new HashMap<>();
+    private long lineNumber;
+
+    private ExpenseImportReader(ExpenseImportFormat format, InputStream inputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    public static Result<ExpenseImportReader> open(ExpenseImportFormat format, InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        ExpenseImportReader importReader = new ExpenseImportReader(format, inputStream, objectMapper);
+        if (format == ExpenseImportFormat.CSV) {
+            Result<Void> headerResult = importReader.readCsvHeader();
+            if (!headerResult.isSuccess()) {
+                importReader.close();
+                return Result.error(headerResult.getErrorMessage(), HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        return Result.success(importReader);
+    }
+
+    /**
+     * Returns the next non blank line, or null once the file is exhausted.
+     */
+    public ExpenseImportLine next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        return format == ExpenseImportFormat.CSV ? parseCsvLine(line) : parseJsonLine(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Result<Void> readCsvHeader() throws IOException {
+        String header;
+        do {
+            header = reader.readLine();
+            if (header == null) {
+                return Result.error("CSV File Is Empty");
+            }
+            lineNumber++;
+        } while (header.isBlank());
+
+        // A BOM written by spreadsheet exports would otherwise stick to the first column name
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        List<String> columns = splitCsvLine(header);
+        for (int i = 0; i < columns.size(); i++) {
+            csvColumns.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> missingColumns = REQUIRED_CSV_COLUMNS.stream()
+                .filter(column -> !csvColumns.containsKey(column))
+                .toList();
+        if (!missingColumns.isEmpty()) {
+            return Result.error("CSV Header Is Missing Columns " + missingColumns);
+        }
+
+        return Result.success();
+    }
+
+    private ExpenseImportLine parseJsonLine(String line) {
+        try {
+            return new ExpenseImportLine(lineNumber, objectMapper.readValue(line, ExpenseImportRowDTO.class), null);
+        } catch (JsonProcessingException e) {
+            return new ExpenseImportLine(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ExpenseImportLine parseCsvLine(String line) {
+        List<String> fields = splitCsvLine(line);
+        ExpenseImportRowDTO row = new ExpenseImportRowDTO();
+
+        String field = null;
+        try {
+            field = "user_id";
+            row.setUserId(parseOrNull(csvValue(fields, field), Long::parseLong));
+            field = "amount";
+            row.setAmount(parseOrNull(csvValue(fields, field), Double::parseDouble));
+            field = "category";
+            row.setCategory(parseOrNull(csvValue(fields, field), value -> ExpenseCategory.valueOf(value.toUpperCase(Locale.ROOT))));
+            field = "date";
+            row.setDate(parseOrNull(csvValue(fields, field), LocalDate::parse));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new ExpenseImportLine(lineNumber, null, field + ": Invalid Value '" + csvValue(fields, field) + "'");
+        }
+
+        row.setDescription(csvValue(fields, "description"));
+        row.setReceiptUrl(csvValue(fields, "receipt_url"));
+
+        return new ExpenseImportLine(lineNumber, row, null);
+    }
+
+    private String csvValue(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parseOrNull(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    // RFC 4180 style split: double quotes wrap fields and "" escapes a quote inside them
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+}
@@ -0,0 +1,45 @@
+package alexisTrejo.expenses.tracking.api.Utils.Pagination;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A slice of a keyset paginated listing. Unlike {@link org.springframework.data.domain.Page}
+ * it carries no total count, so fetching it never runs a COUNT(*) query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    @JsonProperty("content")
+    private List<T> content;
+
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("has_next")
+    private boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    /**
+     * Builds a page from a result fetched with {@code size + 1} rows; the extra row only
+     * signals that another page exists and is dropped from the content.
+     */
+    public static <E, T> CursorPage<T> fromOverFetched(List<E> rows, int size, Function<E, String> cursorEncoder, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorEncoder.apply(pageRows.get(pageRows.size() - 1)) : null;
+        List<T> content = pageRows.stream().map(mapper).toList();
+
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,54 @@
+package alexisTrejo.expenses.tracking.api.Utils.Pagination;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseListItemDTO;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last expense of a keyset page, (created_at, id). Clients receive it as an
+ * opaque url-safe token and send it back unchanged to fetch the following page.
+ */
+@Data
+@AllArgsConstructor
+public class ExpenseCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static ExpenseCursor of(ExpenseListItemDTO expense) {
+        return new ExpenseCursor(expense.getCreatedAt(), expense.getId());
+    }
+
+    public static String encode(ExpenseListItemDTO expense) {
+        return of(expense).encode();
+    }
+
+    public String encode() {
+        String rawCursor = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Result<ExpenseCursor> decode(String token) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = rawCursor.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return Result.error("Invalid Cursor", HttpStatus.BAD_REQUEST);
+            }
+
+            LocalDateTime createdAt = LocalDateTime.parse(rawCursor.substring(0, separatorIndex));
+            Long id = Long.parseLong(rawCursor.substring(separatorIndex + 1));
+            return Result.success(new ExpenseCursor(createdAt, id));
+        } catch (RuntimeException e) {
+            return Result.error("Invalid Cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
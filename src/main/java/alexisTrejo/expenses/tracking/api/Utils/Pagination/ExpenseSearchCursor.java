@@ -0,0 +1,50 @@
+package alexisTrejo.expenses.tracking.api.Utils.Pagination;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseSearchHitDTO;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last hit of a search page, (rank, id). Search results are ordered by
+ * relevance, so the keyset is the rank instead of the creation time used by the listings.
+ */
+@Data
+@AllArgsConstructor
+public class ExpenseSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private float rank;
+    private Long id;
+
+    public static String encode(ExpenseSearchHitDTO hit) {
+        return new ExpenseSearchCursor(hit.getRank(), hit.getExpense().getId()).encode();
+    }
+
+    public String encode() {
+        // Float.toString round-trips exactly, so the next page resumes on the same real value
+        String rawCursor = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Result<ExpenseSearchCursor> decode(String token) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = rawCursor.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return Result.error("Invalid Cursor", HttpStatus.BAD_REQUEST);
+            }
+
+            float rank = Float.parseFloat(rawCursor.substring(0, separatorIndex));
+            Long id = Long.parseLong(rawCursor.substring(separatorIndex + 1));
+            return Result.success(new ExpenseSearchCursor(rank, id));
+        } catch (RuntimeException e) {
+            return Result.error("Invalid Cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package alexisTrejo.expenses.tracking.api.Utils.Search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free text into a to_tsquery expression. Only letters and digits are kept, so user
+ * input can never inject tsquery operators; every term must match and the last one is
+ * matched as a prefix so partially typed words still find results.
+ */
+public final class ExpenseSearchQuery {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+
+    private ExpenseSearchQuery() {
+    }
+
+    public static Optional<String> toPrefixTsQuery(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+
+        String[] terms = Arrays.stream(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .toArray(String[]::new);
+        if (terms.length == 0) {
+            return Optional.empty();
+        }
+
+        terms[terms.length - 1] = terms[terms.length - 1] + ":*";
+        return Optional.of(Arrays.stream(terms).collect(Collectors.joining(" & ")));
+    }
+}
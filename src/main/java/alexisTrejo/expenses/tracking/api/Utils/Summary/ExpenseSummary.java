@@ -1,10 +1,13 @@
 package alexisTrejo.expenses.tracking.api.Utils.Summary;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 @AllArgsConstructor
 @Builder
@@ -42,4 +45,9 @@ public class ExpenseSummary {
     @JsonProperty("reimbursed_amount")
     private double reimbursedAmount;
 
+    // Per category / department breakdown, only present when a grouping was requested
+    @JsonProperty("groups")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, ExpenseSummary> groups;
+
 }
@@ -0,0 +1,16 @@
+package alexisTrejo.expenses.tracking.api.Utils.Summary;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ExpenseSummaryGroupBy {
+    NONE,
+    CATEGORY,
+    DEPARTMENT;
+
+    public static Optional<ExpenseSummaryGroupBy> findGroupBy(String name) {
+        return Arrays.stream(ExpenseSummaryGroupBy.values())
+                .filter(groupBy -> groupBy.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
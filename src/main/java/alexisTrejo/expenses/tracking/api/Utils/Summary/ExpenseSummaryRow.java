@@ -0,0 +1,34 @@
+package alexisTrejo.expenses.tracking.api.Utils.Summary;
+
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a {@code GROUP BY status[, group]} aggregation over expenses.
+ * {@code groupKey} is null when the query only groups by status.
+ */
+@Data
+@NoArgsConstructor
+public class ExpenseSummaryRow {
+    private String groupKey;
+    private ExpenseStatus status;
+    private long totalCount;
+    private double totalAmount;
+
+    public ExpenseSummaryRow(ExpenseStatus status, Long totalCount, Double totalAmount) {
+        this((String) null, status, totalCount, totalAmount);
+    }
+
+    public ExpenseSummaryRow(ExpenseCategory category, ExpenseStatus status, Long totalCount, Double totalAmount) {
+        this(category != null ? category.name() : null, status, totalCount, totalAmount);
+    }
+
+    public ExpenseSummaryRow(String groupKey, ExpenseStatus status, Long totalCount, Double totalAmount) {
+        this.groupKey = groupKey;
+        this.status = status;
+        this.totalCount = totalCount != null ? totalCount : 0L;
+        this.totalAmount = totalAmount != null ? totalAmount : 0.0;
+    }
+}
@@ -0,0 +1,38 @@
+-- Cold storage for soft-deleted and long reimbursed expenses, filled by ExpenseArchiveJob.
+-- Attachment urls and the reimbursement are folded into the row so the live tables can drop them too.
+CREATE TABLE IF NOT EXISTS expenses_archive (
+    id bigint PRIMARY KEY,
+    user_id bigint,
+    amount double precision NOT NULL,
+    category varchar(255) NOT NULL,
+    description varchar(500) NOT NULL,
+    date date NOT NULL,
+    receipt_url varchar(255) NOT NULL,
+    status varchar(255) NOT NULL,
+    approved_by bigint,
+    rejection_reason varchar(255),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6) NOT NULL,
+    deleted_at timestamp(6),
+    reimbursement_id bigint,
+    reimbursement_processed_by bigint,
+    reimbursement_date date,
+    attachment_urls text[],
+    archive_reason varchar(16) NOT NULL,
+    archived_at timestamp(6) NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_expenses_archive_user_created ON expenses_archive (user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_expenses_archive_created ON expenses_archive (created_at);
+
+-- Hot-path listing indexes only cover live rows; every query they serve filters on deleted_at IS NULL
+DROP INDEX IF EXISTS idx_expenses_user_created_id;
+DROP INDEX IF EXISTS idx_expenses_status_created_id;
+CREATE INDEX IF NOT EXISTS idx_expenses_live_user_created_id ON expenses (user_id, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_expenses_live_status_created_id ON expenses (status, created_at, id) WHERE deleted_at IS NULL;
+-- Lets the archive job find its candidates without scanning live rows
+CREATE INDEX IF NOT EXISTS idx_expenses_deleted_at ON expenses (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_expenses_reimbursed_updated ON expenses (updated_at) WHERE status = 'REIMBURSED' AND deleted_at IS NULL;
+-- Approved expenses still waiting for a reimbursement, counted when the status counters reconcile
+CREATE INDEX IF NOT EXISTS idx_expenses_pending_reimbursement ON expenses (id) WHERE status = 'APPROVED' AND reimbursement_id IS NULL AND deleted_at IS NULL;
+-- The archive chunk deletes attachments by expense_id; without an FK nothing else indexes it
+CREATE INDEX IF NOT EXISTS idx_expense_attachment_expense_id ON expense_attachment (expense_id);
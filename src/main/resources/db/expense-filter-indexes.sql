@@ -0,0 +1,35 @@
+-- Indexes behind GET /v1/api/manager/expenses/filter, one per leading filter that no other index
+-- on expenses already serves. Each skips soft deleted rows, which the listing never returns.
+-- The plans below are the shapes GET .../filter?debug=explain should report for each combination;
+-- the other filters of a combination are checked on the rows the index returns.
+--   status [+ anything]    -> Index Scan using idx_expenses_live_status_created_id (db/expense-archive.sql)
+--                             Index Cond: status, keyset bound on created_at; no Sort, stops at the page size
+--   user [+ anything]      -> Index Scan using idx_expenses_live_user_created_id (db/expense-archive.sql)
+--                             Index Cond: user_id, keyset bound on created_at; no Sort, stops at the page size
+--   category [+ dates, amounts]
+--                          -> Index Scan using idx_expenses_live_category_created_id
+--                             Index Cond: category, keyset bound on created_at; no Sort, stops at the page size
+--   approver [+ dates]     -> Index Scan using idx_expenses_live_approver_created_id
+--                             Index Cond: approved_by, keyset bound on created_at; no Sort, stops at the page size
+--   date range [+ amounts] -> Bitmap Index Scan on idx_expenses_live_date_amount
+--                             Index Cond: date range and amount range, then a top-N Sort of the matches
+--   department             -> Nested Loop of idx_users_department into idx_expenses_live_user_created_id,
+--                             then a top-N Sort of the matches
+-- An amount range on its own is rejected by the API.
+-- Dropped because idx_expenses_live_status_created_id and idx_expenses_live_user_created_id already
+-- give status and user filters an ordered seek, with the remaining columns checked on the row:
+DROP INDEX IF EXISTS idx_expenses_status_category_date_created_id;
+DROP INDEX IF EXISTS idx_expenses_user_date_created_id;
+-- Replaced by the narrower indexes below
+DROP INDEX IF EXISTS idx_expenses_category_date_amount_created_id;
+DROP INDEX IF EXISTS idx_expenses_approver_date_created_id;
+DROP INDEX IF EXISTS idx_expenses_date_amount_created_id;
+DROP INDEX IF EXISTS idx_expenses_status_category_date;
+DROP INDEX IF EXISTS idx_expenses_category_date_amount;
+DROP INDEX IF EXISTS idx_expenses_user_date;
+DROP INDEX IF EXISTS idx_expenses_approver_date;
+DROP INDEX IF EXISTS idx_expenses_date_amount;
+CREATE INDEX IF NOT EXISTS idx_expenses_live_category_created_id ON expenses (category, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_expenses_live_approver_created_id ON expenses (approved_by, created_at, id) WHERE approved_by IS NOT NULL AND deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_expenses_live_date_amount ON expenses (date, amount) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_users_department ON users (department);
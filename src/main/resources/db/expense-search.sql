@@ -0,0 +1,6 @@
+-- Full-text search over expense descriptions. The tsvector is a stored generated column so it can
+-- never drift from the description, and the GIN index answers @@ lookups without scanning the table.
+-- Not mapped on the Expense entity; Hibernate's schema update leaves unknown columns alone.
+ALTER TABLE expenses ADD COLUMN IF NOT EXISTS description_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(description, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_expenses_description_tsv ON expenses USING GIN (description_tsv);
@@ -0,0 +1,15 @@
+-- Rotating refresh tokens, see RefreshTokenRepository. Only the SHA-256 of each opaque token is kept.
+-- A rotated token stays (used_at set) until it expires so that presenting it again is caught as reuse.
+-- email and role are copied in so a refresh needs no users lookup; changing or deleting a user revokes its tokens.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash bytea PRIMARY KEY,
+    family_id uuid NOT NULL,
+    user_id bigint NOT NULL,
+    email varchar(255) NOT NULL,
+    role varchar(32) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    used_at timestamp(6)
+);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires ON refresh_tokens (expires_at);
@@ -0,0 +1,38 @@
+-- Moves every table from IDENTITY ids to the <table>_seq sequences used by the entities.
+-- Runs after Hibernate has updated the schema (and created the sequences) on every start,
+-- so each statement is idempotent:
+--   * the identity is dropped so the column default can draw from the shared sequence,
+--     keeping plain SQL inserts (e.g. the JDBC expense import) in step with Hibernate;
+--   * a sequence that is behind the ids already in the table is moved past them. With the
+--     pooled-lo optimizer a value handed out reserves [value, value + 49], so setting the
+--     sequence to MAX(id) keeps every future block clear of existing rows.
+
+ALTER TABLE expenses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE expenses ALTER COLUMN id SET DEFAULT nextval('expenses_seq');
+ALTER SEQUENCE expenses_seq OWNED BY expenses.id;
+SELECT setval('expenses_seq', (SELECT MAX(id) FROM expenses)) WHERE (SELECT last_value FROM expenses_seq) <= (SELECT COALESCE(MAX(id), 0) FROM expenses);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
+SELECT setval('users_seq', (SELECT MAX(id) FROM users)) WHERE (SELECT last_value FROM users_seq) <= (SELECT COALESCE(MAX(id), 0) FROM users);
+
+ALTER TABLE notification ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE notification ALTER COLUMN id SET DEFAULT nextval('notification_seq');
+ALTER SEQUENCE notification_seq OWNED BY notification.id;
+SELECT setval('notification_seq', (SELECT MAX(id) FROM notification)) WHERE (SELECT last_value FROM notification_seq) <= (SELECT COALESCE(MAX(id), 0) FROM notification);
+
+ALTER TABLE reimbursement ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reimbursement ALTER COLUMN id SET DEFAULT nextval('reimbursement_seq');
+ALTER SEQUENCE reimbursement_seq OWNED BY reimbursement.id;
+SELECT setval('reimbursement_seq', (SELECT MAX(id) FROM reimbursement)) WHERE (SELECT last_value FROM reimbursement_seq) <= (SELECT COALESCE(MAX(id), 0) FROM reimbursement);
+
+ALTER TABLE expense_attachment ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE expense_attachment ALTER COLUMN id SET DEFAULT nextval('expense_attachment_seq');
+ALTER SEQUENCE expense_attachment_seq OWNED BY expense_attachment.id;
+SELECT setval('expense_attachment_seq', (SELECT MAX(id) FROM expense_attachment)) WHERE (SELECT last_value FROM expense_attachment_seq) <= (SELECT COALESCE(MAX(id), 0) FROM expense_attachment);
+
+ALTER TABLE admin_settings ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE admin_settings ALTER COLUMN id SET DEFAULT nextval('admin_settings_seq');
+ALTER SEQUENCE admin_settings_seq OWNED BY admin_settings.id;
+SELECT setval('admin_settings_seq', (SELECT MAX(id) FROM admin_settings)) WHERE (SELECT last_value FROM admin_settings_seq) <= (SELECT COALESCE(MAX(id), 0) FROM admin_settings);
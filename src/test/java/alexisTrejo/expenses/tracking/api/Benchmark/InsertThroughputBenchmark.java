@@ -0,0 +1,180 @@
+package alexisTrejo.expenses.tracking.api.Benchmark;
+
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Models.ExpenseAttachment;
+import alexisTrejo.expenses.tracking.api.Models.Notification;
+import alexisTrejo.expenses.tracking.api.Models.User;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Models.enums.NotificationType;
+import alexisTrejo.expenses.tracking.api.Models.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput of Notification and ExpenseAttachment persists with their pooled-lo sequence
+ * ids (ids reserved in blocks of 50, inserts batched) against the IDENTITY ids they had before
+ * (Hibernate has to run one INSERT ... RETURNING per row and cannot batch). The IDENTITY side is a
+ * second EntityManagerFactory over the same entities and tables, with the id generation
+ * overridden by benchmark/identity-ids-orm.xml. Every run is rolled back.
+ * Needs the configured Postgres database: RUN_BENCHMARKS=true gradle test --tests '*InsertThroughputBenchmark'
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false") // SQL logging would dominate the timings
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class InsertThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(InsertThroughputBenchmark.class);
+
+    private static final int WARMUP_ROWS = 1_000;
+    private static final int ROWS = 10_000;
+    // Batching 50 rows per round trip is typically 5-10x faster locally; 2x leaves room for noisy machines
+    private static final double MIN_SPEEDUP = 2.0;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaProperties jpaProperties;
+
+    @Autowired
+    private HibernateProperties hibernateProperties;
+
+    private LocalContainerEntityManagerFactoryBean identityEntityManagerFactory;
+
+    @BeforeEach
+    void createIdentityEntityManagerFactory() {
+        Map<String, Object> properties = new HashMap<>(hibernateProperties.determineHibernateProperties(jpaProperties.getProperties(), new HibernateSettings()));
+        // The application context already keeps the schema up to date
+        properties.put("hibernate.hbm2ddl.auto", "none");
+
+        identityEntityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        identityEntityManagerFactory.setDataSource(dataSource);
+        identityEntityManagerFactory.setPackagesToScan(Notification.class.getPackageName());
+        identityEntityManagerFactory.setMappingResources("benchmark/identity-ids-orm.xml");
+        identityEntityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        identityEntityManagerFactory.setJpaPropertyMap(properties);
+        identityEntityManagerFactory.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void closeIdentityEntityManagerFactory() {
+        identityEntityManagerFactory.destroy();
+    }
+
+    @Test
+    void sequenceIdsOutperformIdentityIdsForNotifications() {
+        compare("Notification", (fixture, i) -> Notification.builder()
+                .user(fixture.user())
+                .type(NotificationType.EXPENSE_APPROVAL)
+                .message("Benchmark notification " + i)
+                .read(false)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void sequenceIdsOutperformIdentityIdsForAttachments() {
+        compare("ExpenseAttachment", (fixture, i) -> new ExpenseAttachment(fixture.expense(), "https://example.com/receipts/" + i));
+    }
+
+    private void compare(String entityName, RowFactory rowFactory) {
+        EntityManagerFactory identityIds = identityEntityManagerFactory.getObject();
+        measure(identityIds, rowFactory, WARMUP_ROWS);
+        measure(entityManagerFactory, rowFactory, WARMUP_ROWS);
+
+        double identity = measure(identityIds, rowFactory, ROWS);
+        double sequence = measure(entityManagerFactory, rowFactory, ROWS);
+        double speedup = sequence / identity;
+
+        log.info("{} persists: {} rows/s with IDENTITY ids, {} rows/s with pooled-lo sequence ids, x{}",
+                entityName, Math.round(identity), Math.round(sequence), String.format("%.1f", speedup));
+        assertTrue(speedup >= MIN_SPEEDUP, entityName + ": expected sequence ids to be at least x" + MIN_SPEEDUP + " faster, got x" + speedup);
+    }
+
+    // Persists the rows inside a transaction that is always rolled back and returns rows per second
+    private double measure(EntityManagerFactory factory, RowFactory rowFactory, int rows) {
+        EntityManager entityManager = factory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Fixture fixture = persistFixture(entityManager);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(rowFactory.create(fixture, i));
+            }
+            entityManager.flush();
+            long elapsedNanos = System.nanoTime() - start;
+
+            return rows * 1_000_000_000d / elapsedNanos;
+        } finally {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            entityManager.close();
+        }
+    }
+
+    // The user and expense the benchmark rows point at; rolled back with them
+    private Fixture persistFixture(EntityManager entityManager) {
+        LocalDateTime now = LocalDateTime.now();
+        User user = new User();
+        user.setEmail("benchmark-" + System.nanoTime() + "@example.com");
+        user.setPassword("benchmark");
+        user.setFirstName("Benchmark");
+        user.setLastName("User");
+        user.setRole(Role.EMPLOYEE);
+        user.setDepartment("Benchmark");
+        user.setLastLogin(now);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        entityManager.persist(user);
+
+        Expense expense = new Expense();
+        expense.setUser(user);
+        expense.setAmount(42.0);
+        expense.setCategory(ExpenseCategory.MISCELLANEOUS);
+        expense.setDescription("Insert throughput benchmark");
+        expense.setDate(LocalDate.now());
+        expense.setReceiptUrl("");
+        expense.setStatus(ExpenseStatus.PENDING);
+        expense.setCreatedAt(now);
+        expense.setUpdatedAt(now);
+        entityManager.persist(expense);
+
+        // Outside the timed section
+        entityManager.flush();
+        return new Fixture(user, expense);
+    }
+
+    private record Fixture(User user, Expense expense) {
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object create(Fixture fixture, int index);
+    }
+}
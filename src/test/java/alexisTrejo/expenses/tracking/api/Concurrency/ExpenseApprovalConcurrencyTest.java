@@ -0,0 +1,148 @@
+package alexisTrejo.expenses.tracking.api.Concurrency;
+
+import alexisTrejo.expenses.tracking.api.DTOs.Expenses.ExpenseDTO;
+import alexisTrejo.expenses.tracking.api.Models.Expense;
+import alexisTrejo.expenses.tracking.api.Models.User;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseCategory;
+import alexisTrejo.expenses.tracking.api.Models.enums.ExpenseStatus;
+import alexisTrejo.expenses.tracking.api.Models.enums.Role;
+import alexisTrejo.expenses.tracking.api.Service.Interfaces.ExpenseService;
+import alexisTrejo.expenses.tracking.api.Utils.Events.ExpenseChangedEvent;
+import alexisTrejo.expenses.tracking.api.Utils.Result;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 100 managers approve the same pending expense at the same instant; the conditional UPDATE
+ * must let exactly one of them win and answer every other one with 409.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ExpenseApprovalConcurrencyTest {
+
+    private static final int APPROVERS = 100;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long expenseId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void createPendingExpense() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            User employee = persistUser(Role.EMPLOYEE);
+            User manager = persistUser(Role.MANAGER);
+
+            LocalDateTime now = LocalDateTime.now();
+            Expense expense = new Expense();
+            expense.setUser(employee);
+            expense.setAmount(42.0);
+            expense.setCategory(ExpenseCategory.MISCELLANEOUS);
+            expense.setDescription("Concurrent approval");
+            expense.setDate(LocalDate.now());
+            expense.setReceiptUrl("");
+            expense.setStatus(ExpenseStatus.PENDING);
+            expense.setCreatedAt(now);
+            expense.setUpdatedAt(now);
+            entityManager.persist(expense);
+            applicationEventPublisher.publishEvent(ExpenseChangedEvent.created(expense));
+
+            expenseId = expense.getId();
+            userIds = List.of(employee.getId(), manager.getId());
+        });
+    }
+
+    @AfterEach
+    void deleteFixture() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Expense expense = entityManager.find(Expense.class, expenseId);
+            applicationEventPublisher.publishEvent(ExpenseChangedEvent.deleted(expense));
+            entityManager.remove(expense);
+            userIds.forEach(userId -> entityManager.remove(entityManager.find(User.class, userId)));
+        });
+    }
+
+    @Test
+    void exactlyOneConcurrentApprovalWins() throws Exception {
+        Long managerId = userIds.get(1);
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(APPROVERS);
+
+        List<Future<Result<ExpenseDTO>>> attempts = new ArrayList<>();
+        try {
+            for (int i = 0; i < APPROVERS; i++) {
+                attempts.add(executor.submit(() -> {
+                    startGate.await();
+                    return expenseService.approveExpense(expenseId, managerId);
+                }));
+            }
+            startGate.countDown();
+
+            int winners = 0;
+            int conflicts = 0;
+            for (Future<Result<ExpenseDTO>> attempt : attempts) {
+                Result<ExpenseDTO> result = attempt.get();
+                if (result.isSuccess()) {
+                    winners++;
+                } else if (result.getStatus() == HttpStatus.CONFLICT) {
+                    conflicts++;
+                }
+            }
+
+            assertEquals(1, winners);
+            assertEquals(APPROVERS - 1, conflicts);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Expense expense = transactionTemplate.execute(status -> entityManager.find(Expense.class, expenseId));
+        assertEquals(ExpenseStatus.APPROVED, expense.getStatus());
+        assertEquals(1L, expense.getVersion());
+    }
+
+    private User persistUser(Role role) {
+        LocalDateTime now = LocalDateTime.now();
+        User user = new User();
+        user.setEmail("concurrency-" + role.name().toLowerCase() + "-" + System.nanoTime() + "@example.com");
+        user.setPassword("concurrency");
+        user.setFirstName("Concurrency");
+        user.setLastName(role.name());
+        user.setRole(role);
+        user.setDepartment("Concurrency");
+        user.setLastLogin(now);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        entityManager.persist(user);
+        return user;
+    }
+}